@@ -0,0 +1,83 @@
+package org.example.scheduler.benchmark;
+
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.entity.Comment;
+import org.example.scheduler.entity.RecurrenceRule;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.entity.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 엔티티/DTO 생성 (DB 없이 ID와 작성일을 채운 영속 상태와 같은 모양)
+ * - 제목/내용 길이는 엔티티 컬럼 길이에 맞춤 (제목 30자, 댓글 100자)
+ */
+final class BenchmarkFixtures {
+    static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 9, 1, 9, 0);
+    private static final RecurrenceRule WEEKLY = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE");
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(long id) {
+        User user = new User("유저" + id, "user" + id + "@example.com", "$2a$04$abcdefghijklmnopqrstuu5Jd0DB4D9c1UqQfxGzv9bEJ8bs6xm");
+        ReflectionTestUtils.setField(user, "id", id);
+        stamp(user, id);
+        return user;
+    }
+
+    static Schedule schedule(long id, User user) {
+        LocalDateTime startAt = BASE_TIME.plusHours(id);
+        Schedule schedule = new Schedule("주간 회의 " + id, "이번 주 진행 상황 공유와 다음 주 계획 논의. 회의록은 공유 문서에 정리합니다.",
+                startAt, startAt.plusHours(1), (id % 4 == 0) ? WEEKLY : null);
+        schedule.setUser(user);
+        ReflectionTestUtils.setField(schedule, "id", id);
+        stamp(schedule, id);
+        return schedule;
+    }
+
+    static Comment comment(long id, User user, Schedule schedule) {
+        Comment comment = new Comment("확인했습니다. 자료는 회의 전까지 공유 드리겠습니다. 추가 안건이 있으면 댓글로 남겨 주세요. (" + id + ")");
+        comment.setUser(user);
+        comment.setSchedule(schedule);
+        ReflectionTestUtils.setField(comment, "id", id);
+        stamp(comment, id);
+        return comment;
+    }
+
+    static List<Comment> comments(int size, Schedule schedule) {
+        List<Comment> comments = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            comments.add(comment(i, user(i % 10 + 1), schedule));
+        }
+        return comments;
+    }
+
+    static List<SchedulePageResponseDto> pageRows(int size) {
+        List<SchedulePageResponseDto> rows = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            LocalDateTime startAt = BASE_TIME.plusHours(i);
+            rows.add(new SchedulePageResponseDto((long) i, "주간 회의 " + i, "이번 주 진행 상황 공유와 다음 주 계획 논의",
+                    startAt, startAt.plusHours(1), (i % 4 == 0) ? WEEKLY : null, i % 30, startAt.minusDays(7), startAt.minusDays(1), "유저" + (i % 10 + 1)));
+        }
+        return rows;
+    }
+
+    static ScheduleResponseDto scheduleResponse() {
+        return ScheduleResponseDto.from(schedule(1, user(1)));
+    }
+
+    static List<CommentResponseDto> commentResponses(int size) {
+        return comments(size, schedule(1, user(1))).stream().map(CommentResponseDto::from).toList();
+    }
+
+    private static void stamp(Object entity, long id) {
+        ReflectionTestUtils.setField(entity, "createdAt", BASE_TIME.minusDays(7).plusMinutes(id));
+        ReflectionTestUtils.setField(entity, "modifiedAt", BASE_TIME.minusDays(1).plusMinutes(id));
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.scheduler.benchmark;
+
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.entity.Comment;
+import org.example.scheduler.entity.Schedule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → 응답 DTO 변환 시간 측정
+ * - 단건 변환과 한 페이지(size건) 변환을 나눠 측정
+ * - 목록 조회용 SchedulePageResponseDto는 리포지토리 프로젝션과 같은 생성자 경로로 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+    @Param({"20", "100"})
+    private int size;
+
+    private Schedule schedule;
+    private List<Comment> comments;
+    private List<Schedule> schedules;
+
+    @Setup
+    public void setUp() {
+        schedule = BenchmarkFixtures.schedule(1, BenchmarkFixtures.user(1));
+        comments = BenchmarkFixtures.comments(size, schedule);
+        schedules = comments.stream().map(comment -> BenchmarkFixtures.schedule(comment.getId(), comment.getUser())).toList();
+    }
+
+    @Benchmark
+    public ScheduleResponseDto scheduleResponse() {
+        return ScheduleResponseDto.from(schedule);
+    }
+
+    @Benchmark
+    public CommentResponseDto commentResponse() {
+        return CommentResponseDto.from(comments.get(0));
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> commentResponsePage() {
+        return comments.stream().map(CommentResponseDto::from).toList();
+    }
+
+    @Benchmark
+    public List<SchedulePageResponseDto> schedulePageRows() {
+        return schedules.stream()
+                .map(s -> new SchedulePageResponseDto(s.getId(), s.getTitle(), s.getContent(), s.getStartAt(), s.getEndAt(),
+                        s.getRecurrence(), s.getCommentCount(), s.getCreatedAt(), s.getModifiedAt(), s.getUser().getName()))
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.scheduler.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleWithCommentsResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 JSON 직렬화 시간 측정
+ * - ObjectMapper는 스프링 부트 기본 설정과 같게 생성 (JavaTimeModule 등록, 날짜를 ISO 문자열로 출력)
+ * - 일정 목록은 페이지 크기 20/100, 단일 일정은 첫 댓글 페이지 크기 10/50 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+    private static final long TOTAL_ELEMENTS = 10_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"10", "50"})
+    private int commentCount;
+
+    private ObjectMapper objectMapper;
+    private Page<SchedulePageResponseDto> schedulePage;
+    private ScheduleWithCommentsResponseDto scheduleWithComments;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        schedulePage = new PageImpl<>(BenchmarkFixtures.pageRows(pageSize), PageRequest.of(0, pageSize), TOTAL_ELEMENTS);
+        scheduleWithComments = ScheduleWithCommentsResponseDto.of(BenchmarkFixtures.scheduleResponse(),
+                BenchmarkFixtures.commentResponses(commentCount), "eyJpZCI6MTB9");
+    }
+
+    @Benchmark
+    public byte[] schedulePage() throws Exception {
+        return objectMapper.writeValueAsBytes(schedulePage);
+    }
+
+    @Benchmark
+    public byte[] scheduleWithComments() throws Exception {
+        return objectMapper.writeValueAsBytes(scheduleWithComments);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.scheduler.benchmark;
+
+import org.example.scheduler.filter.LoginFilter;
+import org.example.scheduler.service.AuthService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 필터 통과 시간 측정
+ * - 화이트리스트 경로, 로그인 세션이 있는 보호 경로, 세션 없는 보호 경로(401 응답)를 나눠 측정
+ * - 세션 모드 AuthService를 사용하므로 DB/토큰 서명 없이 필터 자체 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoginFilterBenchmark {
+    private LoginFilter loginFilter;
+    private MockHttpSession session;
+
+    @Setup
+    public void setUp() {
+        loginFilter = new LoginFilter(new AuthService("session", null, null, null));
+        session = new MockHttpSession();
+        session.setAttribute(AuthService.USER_ID_ATTRIBUTE, 1L);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse whiteListed() throws Exception {
+        return doFilter(new MockHttpServletRequest("POST", "/login"));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules/1");
+        request.setSession(session);
+        return doFilter(request);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse unauthenticated() throws Exception {
+        return doFilter(new MockHttpServletRequest("GET", "/schedules/1"));
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        loginFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
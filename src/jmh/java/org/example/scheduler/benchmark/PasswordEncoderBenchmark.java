@@ -0,0 +1,43 @@
+package org.example.scheduler.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.scheduler.config.PasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시 생성/검증 시간 측정
+ * - 실제 설정과 같이 전용 스레드 풀을 거치므로 풀 전달 비용까지 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PasswordEncoderBenchmark {
+    private static final String RAW_PASSWORD = "password1234!";
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder(0, 64, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.scheduler.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록
+ * - 측정 구간(start ~ stop) 사이의 요청만 기록하고, 백분위는 기록한 값을 정렬해 계산 (근사 없음)
+ */
+final class LatencyRecorder {
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private long startNanos;
+    private long stopNanos;
+
+    void start() {
+        samples.clear();
+        startNanos = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        stopNanos = System.nanoTime();
+    }
+
+    /**
+     * 요청 한 건 기록
+     *
+     * @param endpoint 엔드포인트 (예: GET /schedules/{id})
+     * @param elapsedNanos 응답 시간
+     * @param success 기대한 상태 코드로 응답했는지 여부
+     */
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        if (recording) {
+            samples.computeIfAbsent(endpoint, key -> new Samples()).add(elapsedNanos, success);
+        }
+    }
+
+    double elapsedSeconds() {
+        return ((recording ? System.nanoTime() : stopNanos) - startNanos) / 1_000_000_000.0;
+    }
+
+    /**
+     * 엔드포인트별 요약 (엔드포인트 이름 순)
+     */
+    Map<String, Summary> summarize() {
+        double seconds = elapsedSeconds();
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        new TreeMap<>(samples).forEach((endpoint, endpointSamples) -> summaries.put(endpoint, endpointSamples.summarize(seconds)));
+        return summaries;
+    }
+
+    /**
+     * 엔드포인트 요약
+     *
+     * @param count 요청 수
+     * @param errors 실패 수
+     * @param throughput 초당 요청 수
+     * @param p50Millis 50번째 백분위 응답 시간 (ms)
+     * @param p95Millis 95번째 백분위 응답 시간 (ms)
+     * @param p99Millis 99번째 백분위 응답 시간 (ms)
+     * @param maxMillis 최대 응답 시간 (ms)
+     */
+    record Summary(long count, long errors, double throughput, double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized Summary summarize(double seconds) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return new Summary(size, errors, size / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    (size == 0) ? 0 : sorted[size - 1] / 1_000_000.0);
+        }
+
+        // nearest-rank 방식
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.scheduler.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (시스템 속성 loadtest.*, Gradle에서는 -Ploadtest.*로 전달)
+ *
+ * @param baseUrl 대상 서버 주소 (비어 있으면 perf 프로필로 앱을 직접 띄움)
+ * @param users 동시 가상 유저 수
+ * @param warmup 측정 전 예열 시간
+ * @param duration 측정 시간
+ * @param seedUsers 사전 적재 유저 수
+ * @param seedSchedulesPerUser 사전 적재 유저당 일정 수
+ * @param seedCommentsPerSchedule 사전 적재 일정당 댓글 수
+ * @param pageSize 목록 조회 페이지 크기
+ * @param resultFile 결과 JSON 저장 경로
+ */
+record LoadTestConfig(String baseUrl, int users, Duration warmup, Duration duration,
+                      int seedUsers, int seedSchedulesPerUser, int seedCommentsPerSchedule,
+                      int pageSize, String resultFile) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.base-url", ""),
+                intProperty("loadtest.users", 20),
+                durationProperty("loadtest.warmup", "10s"),
+                durationProperty("loadtest.duration", "60s"),
+                intProperty("loadtest.seed-users", 20),
+                intProperty("loadtest.seed-schedules-per-user", 20),
+                intProperty("loadtest.seed-comments-per-schedule", 3),
+                intProperty("loadtest.page-size", 10),
+                System.getProperty("loadtest.result-file", "build/results/loadtest/results.json")
+        );
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return (value == null || value.isBlank()) ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static Duration durationProperty(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(name, defaultValue).trim());
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.scheduler.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.scheduler.SchedulerApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종단 간 부하 테스트 실행기 (./gradlew loadTest)
+ * - loadtest.base-url이 없으면 perf 프로필(메모리 DB)로 앱을 임의 포트에 띄운 뒤 실행하므로 MySQL 없이 동작
+ * - 1단계: 유저/일정/댓글을 설정한 양만큼 API로 사전 적재
+ * - 2단계: 가상 유저마다 회원가입/로그인 후 Postman 컬렉션의 흐름(일정 생성, 댓글 작성, 목록/단건 조회)을 비율에 맞춰 반복
+ * - 예열 시간 이후 측정 시간 동안의 엔드포인트별 처리량과 p50/p95/p99 응답 시간을 출력하고 JSON으로 저장
+ */
+public final class LoadTestRunner {
+    private static final String PASSWORD = "loadtest1234";
+    // 한 번 반복할 때 수행할 요청의 누적 비율 (%): 회원가입+로그인 2, 일정 생성 10, 댓글 작성 15, 목록 조회 38, 단건 조회 35
+    private static final int SIGNUP_UNTIL = 2;
+    private static final int CREATE_SCHEDULE_UNTIL = 12;
+    private static final int CREATE_COMMENT_UNTIL = 27;
+    private static final int LIST_PAGE_UNTIL = 65;
+    private static final int MAX_LISTED_PAGES = 10;     // 목록 조회는 앞쪽 페이지 위주 (실제 사용 패턴)
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);   // 같은 서버에 반복 실행해도 이메일이 겹치지 않도록 구분
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+    private final List<Long> scheduleIds = Collections.synchronizedList(new ArrayList<>());
+
+    private LoadTestRunner(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.baseUrl();
+        if (baseUrl.isBlank()) {
+            SpringApplication application = new SpringApplication(SchedulerApplication.class);
+            application.setAdditionalProfiles("perf");
+            context = application.run("--server.port=0", "--management.server.port=0");
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            new LoadTestRunner(config, baseUrl).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(config.users(), new CustomizableThreadFactory("loadtest-"));
+        try {
+            Map<String, Object> seed = seed(executor);
+            Map<String, LatencyRecorder.Summary> endpoints = measure(executor);
+            report(seed, endpoints);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 사전 적재 (유저마다 회원가입/로그인 후 일정과 댓글 생성)
+     *
+     * @return 적재 결과 요약
+     */
+    private Map<String, Object> seed(ExecutorService executor) throws Exception {
+        System.out.printf("[loadtest] seeding %d users x %d schedules x %d comments against %s%n",
+                config.seedUsers(), config.seedSchedulesPerUser(), config.seedCommentsPerSchedule(), baseUrl);
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.start();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < config.seedUsers(); i++) {
+            int index = i;
+            futures.add(executor.submit(() -> seedUser(new ScenarioClient(httpClient, objectMapper, baseUrl, recorder), index)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        recorder.stop();
+
+        long requests = 0;
+        long errors = 0;
+        for (LatencyRecorder.Summary summary : recorder.summarize().values()) {
+            requests += summary.count();
+            errors += summary.errors();
+        }
+        Map<String, Object> seed = new LinkedHashMap<>();
+        seed.put("schedules", scheduleIds.size());
+        seed.put("requests", requests);
+        seed.put("errors", errors);
+        seed.put("seconds", recorder.elapsedSeconds());
+        System.out.printf("[loadtest] seeded %d schedules with %d requests (%d errors) in %.1fs%n",
+                scheduleIds.size(), requests, errors, recorder.elapsedSeconds());
+        return seed;
+    }
+
+    private void seedUser(ScenarioClient client, int index) {
+        if (!signupAndLogin(client, "seed" + index)) {
+            return;
+        }
+        for (int i = 0; i < config.seedSchedulesPerUser(); i++) {
+            Long scheduleId = client.createSchedule("seed" + index + " 일정 " + i, "사전 적재 일정 내용입니다.");
+            if (scheduleId == null) {
+                continue;
+            }
+            scheduleIds.add(scheduleId);
+            for (int j = 0; j < config.seedCommentsPerSchedule(); j++) {
+                client.createComment(scheduleId, "사전 적재 댓글 " + j);
+            }
+        }
+    }
+
+    /**
+     * 가상 유저를 예열 + 측정 시간 동안 실행하고 측정 구간의 결과 반환
+     */
+    private Map<String, LatencyRecorder.Summary> measure(ExecutorService executor) throws Exception {
+        System.out.printf("[loadtest] running %d virtual users: warmup %ds, measure %ds%n",
+                config.users(), config.warmup().toSeconds(), config.duration().toSeconds());
+        LatencyRecorder recorder = new LatencyRecorder();
+        long endNanos = System.nanoTime() + config.warmup().toNanos() + config.duration().toNanos();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            int index = i;
+            futures.add(executor.submit(() -> runVirtualUser(new ScenarioClient(httpClient, objectMapper, baseUrl, recorder), index, endNanos)));
+        }
+
+        TimeUnit.NANOSECONDS.sleep(config.warmup().toNanos());
+        recorder.start();
+        TimeUnit.NANOSECONDS.sleep(config.duration().toNanos());
+        recorder.stop();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return recorder.summarize();
+    }
+
+    private void runVirtualUser(ScenarioClient client, int index, long endNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int generation = 0;
+        signupAndLogin(client, "vu" + index + "-" + generation);
+        while (System.nanoTime() < endNanos) {
+            int roll = random.nextInt(100);
+            if (roll < SIGNUP_UNTIL) {
+                signupAndLogin(client, "vu" + index + "-" + (++generation));
+            } else if (roll < CREATE_SCHEDULE_UNTIL || scheduleIds.isEmpty()) {
+                Long scheduleId = client.createSchedule("vu" + index + " 일정", "부하 테스트 일정 내용입니다.");
+                if (scheduleId != null) {
+                    scheduleIds.add(scheduleId);
+                }
+            } else if (roll < CREATE_COMMENT_UNTIL) {
+                client.createComment(randomScheduleId(random), "부하 테스트 댓글");
+            } else if (roll < LIST_PAGE_UNTIL) {
+                int pages = Math.max(1, Math.min(MAX_LISTED_PAGES, scheduleIds.size() / config.pageSize()));
+                client.getSchedulesPage(random.nextInt(pages), config.pageSize());
+            } else {
+                client.getSchedule(randomScheduleId(random));
+            }
+        }
+    }
+
+    private boolean signupAndLogin(ScenarioClient client, String name) {
+        String email = name + "-" + runId + "@loadtest.local";
+        return client.signup(name, email, PASSWORD) != null && client.login(email, PASSWORD);
+    }
+
+    private long randomScheduleId(ThreadLocalRandom random) {
+        synchronized (scheduleIds) {
+            return scheduleIds.get(random.nextInt(scheduleIds.size()));
+        }
+    }
+
+    /**
+     * 엔드포인트별 결과 출력 및 JSON 저장
+     */
+    private void report(Map<String, Object> seed, Map<String, LatencyRecorder.Summary> endpoints) throws Exception {
+        System.out.printf("%n%-32s %9s %7s %9s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        long totalCount = 0;
+        long totalErrors = 0;
+        double throughput = 0;
+        for (Map.Entry<String, LatencyRecorder.Summary> entry : endpoints.entrySet()) {
+            LatencyRecorder.Summary summary = entry.getValue();
+            System.out.printf("%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), summary.count(), summary.errors(),
+                    summary.throughput(), summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis());
+            totalCount += summary.count();
+            totalErrors += summary.errors();
+            throughput += summary.throughput();
+        }
+        System.out.printf("%-32s %9d %7d %9.1f%n", "total", totalCount, totalErrors, throughput);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("config", config);
+        result.put("seed", seed);
+        result.put("totalRequests", totalCount);
+        result.put("totalErrors", totalErrors);
+        result.put("throughput", throughput);
+        result.put("endpoints", endpoints);
+        File resultFile = new File(config.resultFile());
+        File parent = resultFile.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(resultFile, result);
+        System.out.printf("[loadtest] results saved to %s%n", resultFile.getPath());
+    }
+}
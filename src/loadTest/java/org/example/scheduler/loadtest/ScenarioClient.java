@@ -0,0 +1,146 @@
+package org.example.scheduler.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 가상 유저 한 명의 HTTP 클라이언트 (Postman 컬렉션의 요청을 그대로 전송)
+ * - 로그인 응답의 세션 쿠키를 보관해 이후 요청에 붙임
+ * - 요청마다 응답 시간을 엔드포인트 이름으로 기록하고, 기대한 상태 코드가 아니면 실패로 기록
+ */
+final class ScenarioClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String SESSION_COOKIE = "JSESSIONID=";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private String sessionCookie;
+
+    ScenarioClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, LatencyRecorder recorder) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    /**
+     * 회원가입
+     *
+     * @return 생성된 유저 ID (실패 시 null)
+     */
+    Long signup(String name, String email, String password) {
+        JsonNode body = send("POST /signup", post("/signup", Map.of("name", name, "email", email, "password", password)), 201);
+        return (body == null) ? null : body.get("id").asLong();
+    }
+
+    /**
+     * 로그인 (세션 쿠키 보관)
+     *
+     * @return 성공 여부
+     */
+    boolean login(String email, String password) {
+        HttpResponse<String> response = exchange("POST /login", post("/login", Map.of("email", email, "password", password)), 200);
+        if (response == null) {
+            return false;
+        }
+        sessionCookie = response.headers().allValues("set-cookie").stream()
+                .filter(cookie -> cookie.startsWith(SESSION_COOKIE))
+                .map(cookie -> cookie.split(";", 2)[0])
+                .findFirst()
+                .orElse(null);
+        return sessionCookie != null;
+    }
+
+    /**
+     * 일정 생성
+     *
+     * @return 생성된 일정 ID (실패 시 null)
+     */
+    Long createSchedule(String title, String content) {
+        JsonNode body = send("POST /schedules", post("/schedules", Map.of("title", title, "content", content)), 201);
+        return (body == null) ? null : body.get("id").asLong();
+    }
+
+    /**
+     * 댓글 생성
+     *
+     * @return 생성된 댓글 ID (실패 시 null)
+     */
+    Long createComment(long scheduleId, String content) {
+        JsonNode body = send("POST /schedules/{id}/comments", post("/schedules/" + scheduleId + "/comments", Map.of("content", content)), 201);
+        return (body == null) ? null : body.get("id").asLong();
+    }
+
+    void getSchedulesPage(int page, int size) {
+        exchange("GET /schedules", get("/schedules?page=" + page + "&size=" + size), 200);
+    }
+
+    void getSchedule(long scheduleId) {
+        exchange("GET /schedules/{id}", get("/schedules/" + scheduleId), 200);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Map<String, String> body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (sessionCookie != null) {
+            builder.header("Cookie", sessionCookie);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder builder, int expectedStatus) {
+        HttpResponse<String> response = exchange(endpoint, builder, expectedStatus);
+        if (response == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 요청 전송 및 응답 시간 기록
+     *
+     * @return 기대한 상태 코드의 응답 (실패 시 null)
+     */
+    private HttpResponse<String> exchange(String endpoint, HttpRequest.Builder builder, int expectedStatus) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() == expectedStatus;
+            recorder.record(endpoint, System.nanoTime() - start, success);
+            return success ? response : null;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
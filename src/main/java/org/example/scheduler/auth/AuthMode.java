@@ -0,0 +1,15 @@
+package org.example.scheduler.auth;
+
+/**
+ * 로그인 상태 유지 방식
+ * - SESSION: 서버 메모리의 HttpSession에 userId 저장 (쿠키)
+ * - TOKEN: 서명된 토큰을 발급하고 요청마다 서명/만료만 검증 (Authorization: Bearer)
+ */
+public enum AuthMode {
+    SESSION,
+    TOKEN;
+
+    public static AuthMode from(String value) {
+        return AuthMode.valueOf(value.trim().toUpperCase());
+    }
+}
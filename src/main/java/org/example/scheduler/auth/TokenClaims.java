@@ -0,0 +1,18 @@
+package org.example.scheduler.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 통과한 토큰의 내용
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+    private final Long userId;          // 로그인 유저 ID
+    private final Instant issuedAt;     // 발급 시각
+    private final Instant expiresAt;    // 만료 시각
+    private final String tokenId;       // 토큰 고유 ID (로그아웃 시 폐기 대상 식별)
+}
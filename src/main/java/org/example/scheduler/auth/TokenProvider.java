@@ -0,0 +1,137 @@
+package org.example.scheduler.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HMAC-SHA256 서명 토큰 발급/검증
+ * - 형식: {keyId}.{payload}.{signature} (payload = "userId:발급시각:만료시각:tokenId", URL-safe Base64)
+ * - 서버 저장소 조회 없이 서명과 만료만으로 검증하므로 어느 인스턴스에서든 동일하게 처리 가능
+ * - 키 교체: 새 키를 목록에 추가하고 active-key-id로 지정하면 기존 키로 발급된 토큰도 만료까지 검증됨
+ */
+@Component
+public class TokenProvider {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '.';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, SecretKeySpec> keys = new LinkedHashMap<>();  // keyId → 서명 키
+    private final String activeKeyId;                                       // 신규 발급에 사용하는 키
+    private final Duration ttl;                                             // 토큰 유효 기간
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * @param keys "keyId:secret" 목록 (쉼표 구분)
+     * @param activeKeyId 신규 발급에 사용할 keyId (비어 있으면 첫 번째 키)
+     * @param ttl 토큰 유효 기간
+     */
+    public TokenProvider(@Value("${scheduler.auth.token.keys:}") String keys,
+                         @Value("${scheduler.auth.token.active-key-id:}") String activeKeyId,
+                         @Value("${scheduler.auth.token.ttl:1h}") Duration ttl) {
+        for (String entry : keys.split(",")) {
+            int index = entry.indexOf(':');
+            if (index <= 0 || index == entry.length() - 1) {
+                continue;
+            }
+            String keyId = entry.substring(0, index).trim();
+            byte[] secret = entry.substring(index + 1).trim().getBytes(StandardCharsets.UTF_8);
+            this.keys.put(keyId, new SecretKeySpec(secret, ALGORITHM));
+        }
+        this.activeKeyId = activeKeyId.isBlank()
+                ? this.keys.keySet().stream().findFirst().orElse(null)
+                : activeKeyId;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 신규 발급에 사용할 키가 설정되어 있는지 확인
+     */
+    public boolean hasSigningKey() {
+        return activeKeyId != null && keys.containsKey(activeKeyId);
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * 토큰 발급
+     *
+     * @param userId 로그인 유저 ID
+     * @param issuedAt 발급 시각
+     * @return 서명된 토큰
+     */
+    public String issue(Long userId, Instant issuedAt) {
+        byte[] tokenId = new byte[12];
+        random.nextBytes(tokenId);
+
+        String claims = userId + ":" + issuedAt.getEpochSecond() + ":" + issuedAt.plus(ttl).getEpochSecond()
+                + ":" + ENCODER.encodeToString(tokenId);
+        String signingInput = activeKeyId + SEPARATOR + ENCODER.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        return signingInput + SEPARATOR + ENCODER.encodeToString(sign(keys.get(activeKeyId), signingInput));
+    }
+
+    /**
+     * 토큰 서명 및 만료 검증
+     *
+     * @param token 요청에 포함된 토큰
+     * @return 토큰 내용 (형식/서명이 올바르지 않거나 만료되었으면 null)
+     */
+    public TokenClaims verify(String token) {
+        int first = token.indexOf(SEPARATOR);
+        int last = token.lastIndexOf(SEPARATOR);
+        if (first <= 0 || last == first) {
+            return null;
+        }
+
+        SecretKeySpec key = keys.get(token.substring(0, first));
+        if (key == null) {
+            return null;
+        }
+
+        try {
+            String signingInput = token.substring(0, last);
+            byte[] signature = DECODER.decode(token.substring(last + 1));
+            if (!MessageDigest.isEqual(sign(key, signingInput), signature)) { // 비교 시간으로 서명이 유추되지 않도록 고정 시간 비교
+                return null;
+            }
+
+            String[] parts = new String(DECODER.decode(token.substring(first + 1, last)), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 4) {
+                return null;
+            }
+            TokenClaims claims = new TokenClaims(
+                    Long.valueOf(parts[0]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[1])),
+                    Instant.ofEpochSecond(Long.parseLong(parts[2])),
+                    parts[3]
+            );
+            return claims.getExpiresAt().isAfter(Instant.now()) ? claims : null;
+        } catch (IllegalArgumentException e) { // Base64/숫자 형식 오류
+            return null;
+        }
+    }
+
+    private byte[] sign(SecretKeySpec key, String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("토큰 서명에 실패했습니다.", e);
+        }
+    }
+}
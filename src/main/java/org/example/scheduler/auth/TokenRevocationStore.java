@@ -0,0 +1,100 @@
+package org.example.scheduler.auth;
+
+import org.example.scheduler.entity.RevokedToken;
+import org.example.scheduler.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전에 무효화된 토큰 목록
+ * - 로그아웃한 토큰과 삭제된 유저의 토큰만 담으므로 크기가 작고, 만료 시각이 지나면 제거됨
+ * - DB에 기록하고 각 인스턴스가 주기적으로 메모리로 읽어와 요청마다 DB를 조회하지 않음
+ *   (다른 인스턴스에서 무효화된 토큰은 최대 갱신 주기만큼 늦게 반영됨)
+ */
+@Component
+public class TokenRevocationStore {
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final boolean enabled;
+
+    private final Map<String, Instant> revokedTokenIds = new ConcurrentHashMap<>();  // tokenId → 토큰 만료 시각
+    private final Map<Long, RevokedToken> revokedUsers = new ConcurrentHashMap<>();   // userId → 유저 단위 무효화 기록
+
+    public TokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                @Value("${scheduler.auth.mode:session}") String mode) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.enabled = AuthMode.from(mode) == AuthMode.TOKEN;
+    }
+
+    /**
+     * 토큰 무효화 여부 확인
+     *
+     * @param claims 서명 검증을 통과한 토큰 내용
+     * @return 로그아웃했거나, 유저 단위 무효화 이전에 발급된 토큰이면 true
+     */
+    public boolean isRevoked(TokenClaims claims) {
+        if (revokedTokenIds.containsKey(claims.getTokenId())) {
+            return true;
+        }
+        RevokedToken revokedUser = revokedUsers.get(claims.getUserId());
+        return revokedUser != null && !claims.getIssuedAt().isAfter(revokedUser.getRevokedAt());
+    }
+
+    /**
+     * 토큰 하나를 무효화 (로그아웃)
+     * - 커밋 이후 이벤트 리스너에서도 호출되므로 항상 새 트랜잭션에서 저장
+     *
+     * @param claims 무효화할 토큰 내용
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revokeToken(TokenClaims claims) {
+        revokedTokenRepository.save(RevokedToken.ofToken(claims.getTokenId(), claims.getExpiresAt()));
+        revokedTokenIds.put(claims.getTokenId(), claims.getExpiresAt());
+    }
+
+    /**
+     * 특정 유저에게 지금까지 발급된 모든 토큰을 무효화 (유저 삭제)
+     *
+     * @param userId 유저 ID
+     * @param ttl 토큰 유효 기간 (이 기간이 지나면 기존 토큰이 모두 만료되므로 기록도 만료)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revokeUser(Long userId, Duration ttl) {
+        Instant now = Instant.now();
+        RevokedToken revokedUser = revokedTokenRepository.save(RevokedToken.ofUser(userId, now, now.plus(ttl)));
+        revokedUsers.put(userId, revokedUser);
+    }
+
+    /**
+     * DB의 무효화 목록을 메모리로 갱신하고 만료된 항목 제거
+     */
+    @Scheduled(fixedDelayString = "${scheduler.auth.revocation-refresh-millis:10000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findAll();
+        for (RevokedToken revokedToken : revokedTokens) {
+            if (revokedToken.getTokenId() != null) {
+                revokedTokenIds.put(revokedToken.getTokenId(), revokedToken.getExpiresAt());
+            } else {
+                revokedUsers.merge(revokedToken.getUserId(), revokedToken,
+                        (current, loaded) -> loaded.getRevokedAt().isAfter(current.getRevokedAt()) ? loaded : current);
+            }
+        }
+        revokedTokenIds.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        revokedUsers.values().removeIf(revokedUser -> !revokedUser.getExpiresAt().isAfter(now));
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.scheduler.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.stats.CacheStatsResponseDto;
+import org.example.scheduler.entity.RecurrenceRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반복 일정의 발생 시각을 월 단위로 계산해 보관하는 프로세스 내 캐시
+ * - 키는 (규칙, 첫 발생 시각, 월)이므로 규칙/시각이 수정되면 새 키로 계산되고 이전 항목은 만료로 제거
+ * - 같은 규칙을 쓰는 일정끼리도 결과를 공유
+ */
+@Component
+public class RecurrenceExpansionCache {
+    public static final String NAME = "recurrence-expansion";
+
+    private final Cache<ExpansionKey, List<LocalDateTime>> cache;
+
+    public RecurrenceExpansionCache(@Value("${scheduler.cache.recurrence-expansion.maximum-size:50000}") long maximumSize,
+                                    @Value("${scheduler.cache.recurrence-expansion.expire-after-access:1h}") Duration expireAfterAccess) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * [from, to) 안에 시작하는 발생 시각 조회
+     *
+     * @param rule 반복 규칙
+     * @param dtStart 첫 발생 시각
+     * @param from 구간 시작 (포함)
+     * @param to 구간 끝 (제외)
+     * @return 발생 시작 시각 목록 (오름차순)
+     */
+    public List<LocalDateTime> occurrences(RecurrenceRule rule, LocalDateTime dtStart, LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> result = new ArrayList<>();
+        YearMonth last = YearMonth.from(to);
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(last); month = month.plusMonths(1)) {
+            YearMonth target = month;
+            List<LocalDateTime> monthly = cache.get(new ExpansionKey(rule, dtStart, target), key -> rule.occurrencesIn(dtStart, target));
+            for (LocalDateTime occurrence : monthly) {
+                if (!occurrence.isBefore(from) && occurrence.isBefore(to)) {
+                    result.add(occurrence);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 적중/미적중/제거 통계
+     */
+    public CacheStatsResponseDto stats() {
+        return CacheStatsResponseDto.of(NAME, cache.estimatedSize(), cache.stats());
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class ExpansionKey {
+        private final RecurrenceRule rule;
+        private final LocalDateTime dtStart;
+        private final YearMonth month;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.scheduler.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.example.scheduler.dto.stats.CacheStatsResponseDto;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 일정 목록(페이지)의 전체 건수를 보관하는 프로세스 내 캐시
+ * - 범위(전체 / 작성자별)마다 count 쿼리 결과를 보관하여 페이지 요청마다 인덱스 전체를 세지 않음
+ * - refresh-after-write가 지난 뒤 조회되면 기존 값을 돌려주면서 백그라운드에서 다시 셈 (근사치)
+ */
+@Component
+public class ScheduleCountCache {
+    public static final String NAME = "schedule-count";
+    private static final Long ALL = 0L;     // 전체 범위 키 (유저 ID는 1부터 발급)
+
+    private final LoadingCache<Long, Long> counts;
+
+    public ScheduleCountCache(ScheduleRepository scheduleRepository,
+                              @Value("${scheduler.cache.schedule-count.maximum-size:10000}") long maximumSize,
+                              @Value("${scheduler.cache.schedule-count.refresh-after-write:30s}") Duration refreshAfterWrite,
+                              @Value("${scheduler.cache.schedule-count.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(key -> ALL.equals(key) ? scheduleRepository.countAll() : scheduleRepository.countByUserId(key));
+    }
+
+    /**
+     * 전체 일정 수 (근사치)
+     *
+     * @return 일정 수
+     */
+    public long countAll() {
+        return counts.get(ALL);
+    }
+
+    /**
+     * 특정 작성자의 일정 수 (근사치)
+     *
+     * @param userId 유저 ID
+     * @return 일정 수
+     */
+    public long countByUserId(Long userId) {
+        return counts.get(userId);
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 적중/미적중/제거 통계
+     */
+    public CacheStatsResponseDto stats() {
+        return CacheStatsResponseDto.of(NAME, counts.estimatedSize(), counts.stats());
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.scheduler.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.common.VersionStamp;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleWithCommentsResponseDto;
+import org.example.scheduler.dto.stats.CacheStatsResponseDto;
+import org.example.scheduler.event.CommentChangedEvent;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.example.scheduler.event.UserDataPurgedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 일정 단건 조회(일정 + 댓글 첫 페이지) 결과를 보관하는 프로세스 내 캐시
+ * - Caffeine(W-TinyLFU) 기반으로 최대 개수와 TTL을 넘으면 제거
+ * - 일정/댓글/유저 변경 이벤트를 커밋 이후에 받아 해당 일정만 무효화
+ * - 응답과 함께 응답 내용으로 계산한 ETag를 보관하므로 캐시 적중 시 조건부 요청도 DB를 읽지 않음
+ */
+@Component
+public class ScheduleDetailCache {
+    public static final String NAME = "schedule-detail";
+
+    private final Cache<Long, Entry> cache;
+
+    public ScheduleDetailCache(@Value("${scheduler.cache.schedule-detail.maximum-size:10000}") long maximumSize,
+                               @Value("${scheduler.cache.schedule-detail.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 loader로 읽어 저장
+     * - 같은 일정에 대한 동시 미적중은 한 번만 로딩
+     *
+     * @param scheduleId 일정 ID
+     * @param loader 원본 조회 함수
+     * @return 일정 + 댓글 첫 페이지와 ETag
+     */
+    public Entry get(Long scheduleId, Function<Long, ScheduleWithCommentsResponseDto> loader) {
+        return cache.get(scheduleId, id -> Entry.of(loader.apply(id)));
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 적중/미적중/제거 통계
+     */
+    public CacheStatsResponseDto stats() {
+        return CacheStatsResponseDto.of(NAME, cache.estimatedSize(), cache.stats());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.getType() != ScheduleChangedEvent.Type.CREATED) {
+            cache.invalidate(event.getScheduleId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        cache.invalidate(event.getScheduleId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataPurged(UserDataPurgedEvent event) {
+        cache.invalidateAll(event.getScheduleIds());
+        cache.invalidateAll(event.getCommentedScheduleIds());
+    }
+
+    /**
+     * 캐시 항목 (응답 + 응답 내용으로 계산한 ETag)
+     *
+     * @param response 일정 + 댓글 첫 페이지
+     * @param eTag 강한 ETag
+     */
+    public record Entry(ScheduleWithCommentsResponseDto response, String eTag) {
+        static Entry of(ScheduleWithCommentsResponseDto response) {
+            ScheduleResponseDto schedule = response.getSchedule();
+            List<Object> parts = new ArrayList<>();
+            parts.add(schedule.getVersion());
+            parts.add(schedule.getModifiedAt());
+            for (CommentResponseDto comment : response.getComments()) {
+                parts.add(comment.getId() + ":" + comment.getVersion() + ":" + comment.getModifiedAt());
+            }
+            parts.add(response.getNextCommentCursor());
+            return new Entry(response, VersionStamp.eTag("schedule-" + schedule.getId(), parts.toArray()));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.scheduler.change;
+
+import jakarta.persistence.EntityManager;
+import org.example.scheduler.entity.ChangeLog.ChangeType;
+import org.example.scheduler.entity.ChangeLog.EntityType;
+import org.example.scheduler.event.CommentChangedEvent;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.example.scheduler.event.UserDataPurgedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일정/댓글 변경 이벤트를 변경 기록(change_log)으로 남김
+ * - 이벤트를 발행한 트랜잭션 안에서 모아 두었다가 커밋 직전에 한 번의 배치 INSERT로 저장
+ *   (변경과 기록이 함께 커밋/롤백되고, ID 발급과 커밋 사이 간격이 짧아 ID 순서가 커밋 순서에 가까움)
+ * - INSERT 전에 영속성 컨텍스트를 먼저 flush하여, 대량 가져오기처럼 flush가 오래 걸려도 ID 발급 후에는 커밋만 남도록 함
+ * - 댓글 등록/삭제는 일정의 댓글 개수도 바꾸므로 일정 변경도 함께 기록 (같은 트랜잭션의 같은 변경은 한 번만 기록)
+ */
+@Component
+public class ChangeLogRecorder {
+    private static final String INSERT_SQL =
+            "insert into change_log (entity_type, entity_id, schedule_id, change_type, changed_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public ChangeLogRecorder(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @EventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        record(new Change(EntityType.SCHEDULE, event.getScheduleId(), event.getScheduleId(), ChangeType.valueOf(event.getType().name())));
+    }
+
+    @EventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        record(new Change(EntityType.COMMENT, event.getCommentId(), event.getScheduleId(), ChangeType.valueOf(event.getType().name())));
+        if (event.getType() != CommentChangedEvent.Type.UPDATED) {
+            record(new Change(EntityType.SCHEDULE, event.getScheduleId(), event.getScheduleId(), ChangeType.UPDATED));
+        }
+    }
+
+    @EventListener
+    public void onUserDataPurged(UserDataPurgedEvent event) {
+        // 일정이 삭제되면 달린 댓글도 함께 삭제된 것으로 간주하므로 댓글별 기록은 유저가 남긴 댓글만 남김
+        event.getScheduleIds().forEach(id -> record(new Change(EntityType.SCHEDULE, id, id, ChangeType.DELETED)));
+        event.getCommentIds().forEach(id -> record(new Change(EntityType.COMMENT, id, null, ChangeType.DELETED)));
+        event.getCommentedScheduleIds().forEach(id -> record(new Change(EntityType.SCHEDULE, id, id, ChangeType.UPDATED)));
+    }
+
+    private void record(Change change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(change));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Change> pending = (Set<Change>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Change> changes = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (entityManager.isJoinedToTransaction()) {
+                        entityManager.flush();  // 엔티티 변경 SQL을 먼저 실행한 뒤 ID 발급
+                    }
+                    insert(new ArrayList<>(changes));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLogRecorder.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    private void insert(List<Change> changes) {
+        Timestamp changedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, change.entityType().name());
+            ps.setLong(2, change.entityId());
+            ps.setObject(3, change.scheduleId());
+            ps.setString(4, change.changeType().name());
+            ps.setTimestamp(5, changedAt);
+        });
+    }
+
+    private record Change(EntityType entityType, Long entityId, Long scheduleId, ChangeType changeType) {
+    }
+}
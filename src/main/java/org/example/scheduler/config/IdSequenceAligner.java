@@ -0,0 +1,59 @@
+package org.example.scheduler.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 시퀀스를 지원하지 않는 DB(MySQL)에서 ID 할당용 테이블을 기존 데이터의 최대 ID 이후로 맞춤
+ * - 엔티티 ID는 할당 테이블에서 ALLOCATION_SIZE개씩 미리 받아 쓰므로 INSERT를 JDBC 배치로 묶어 전송할 수 있음
+ * - IDENTITY 방식으로 쌓인 기존 행과 새로 할당되는 ID가 겹치지 않도록 시작 시 한 번 보정
+ * - 스키마 생성(JPA 초기화) 이후, 웹 서버가 요청을 받기 전에 실행
+ * - 실제 시퀀스를 쓰는 DB에서는 할당 테이블이 없으므로 아무 작업도 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+    private static final int ALLOCATION_SIZE = 50; // 엔티티의 @SequenceGenerator allocationSize와 동일해야 함
+    private static final Map<String, String> SEQUENCE_TABLES = Map.of(  // 할당 테이블 -> 엔티티 테이블
+            "user_seq", "user",
+            "schedule_seq", "schedule",
+            "comment_seq", "comment",
+            "reminder_seq", "reminder"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCE_TABLES.forEach((sequenceTable, entityTable) -> {
+            if (!tableExists(sequenceTable)) {
+                return;
+            }
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from `" + entityTable + "`", Long.class);
+            long nextValue = maxId + ALLOCATION_SIZE + 1; // pooled 할당은 읽은 값 - (allocationSize - 1)부터 사용하므로 여유를 둠
+            int updated = jdbcTemplate.update("update " + sequenceTable + " set next_val = ? where next_val < ?", nextValue, nextValue);
+            if (updated > 0) {
+                log.info("ID 할당 테이블 보정: {} -> {}", sequenceTable, nextValue);
+            }
+        });
+    }
+
+    private boolean tableExists(String tableName) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            try (ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, tableName, new String[]{"TABLE"})) {
+                return tables.next();
+            } catch (SQLException e) {
+                return false;
+            }
+        }));
+    }
+}
@@ -1,16 +1,136 @@
 package org.example.scheduler.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt 비밀번호 암호화/검증
+ * - CPU를 많이 쓰는 해시 계산은 CPU 수만큼의 전용 스레드 풀에서 수행하여 요청 스레드를 해시 계산에 묶어두지 않음
+ * - 대기열이 가득 차면 즉시 503으로 거절하여 로그인 폭주가 다른 API 지연으로 번지지 않도록 함
+ * - 해시 계산/대기 시간은 password.hashing 지표(히스토그램)로도 기록
+ */
 @Component
 public class PasswordEncoder {
+    private final ThreadPoolExecutor hashingExecutor;
+    private final long timeoutMillis;
+
+    private final LongAdder rejectedCount = new LongAdder();    // 대기열 초과/시간 초과로 거절된 수
+    private final Timer encodeTimer;    // 해시 생성 계산 시간
+    private final Timer matchesTimer;   // 해시 검증 계산 시간
+    private final Timer queueTimer;     // 대기열 대기 시간
+
+    public PasswordEncoder(@Value("${scheduler.password-hashing.threads:0}") int threads,
+                           @Value("${scheduler.password-hashing.queue-capacity:64}") int queueCapacity,
+                           @Value("${scheduler.password-hashing.timeout:5s}") Duration timeout,
+                           MeterRegistry meterRegistry) {
+        int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        this.timeoutMillis = timeout.toMillis();
+        this.hashingExecutor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.queueTimer = Timer.builder("password.hashing.queue")
+                .description("Time spent waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", hashingExecutor, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", hashingExecutor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("password.hashing.rejected", rejectedCount, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
     public String encode(String rawPassword){
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return execute(encodeTimer, () -> BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword){
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return execute(matchesTimer, () -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    /**
+     * 해시 스레드 풀에서 작업을 실행하고 결과를 기다림
+     *
+     * @throws CustomException 대기열이 가득 찼거나 제한 시간 안에 끝나지 않으면 503 반환
+     */
+    private <T> T execute(Timer hashTimer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    record(hashTimer, startedAt - submittedAt, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private void record(Timer hashTimer, long queueNanos, long hashNanos) {
+        queueTimer.record(queueNanos, TimeUnit.NANOSECONDS);
+        hashTimer.record(hashNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing")
+                .description("BCrypt hash computation time")
+                .tag("operation", operation)
+                .register(meterRegistry);
     }
 }
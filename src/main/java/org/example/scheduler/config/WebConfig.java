@@ -1,7 +1,10 @@
 package org.example.scheduler.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.Filter;
 import org.example.scheduler.filter.LoginFilter;
+import org.example.scheduler.filter.SqlMetricsFilter;
+import org.example.scheduler.service.AuthService;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,12 +13,22 @@ import org.springframework.context.annotation.Configuration;
 public class WebConfig {
 
     @Bean
-    public FilterRegistrationBean loginFilter(){
+    public FilterRegistrationBean loginFilter(AuthService authService){
         FilterRegistrationBean<Filter> filterRegistrationBean = new FilterRegistrationBean<>();
-        filterRegistrationBean.setFilter(new LoginFilter());
+        filterRegistrationBean.setFilter(new LoginFilter(authService));
         filterRegistrationBean.setOrder(1);
         filterRegistrationBean.addUrlPatterns("/*");
 
         return filterRegistrationBean;
     }
+
+    @Bean
+    public FilterRegistrationBean sqlMetricsFilter(MeterRegistry meterRegistry){
+        FilterRegistrationBean<Filter> filterRegistrationBean = new FilterRegistrationBean<>();
+        filterRegistrationBean.setFilter(new SqlMetricsFilter(meterRegistry));
+        filterRegistrationBean.setOrder(0);     // 로그인 필터보다 먼저 (인증 조회 SQL까지 포함)
+        filterRegistrationBean.addUrlPatterns("/*");
+
+        return filterRegistrationBean;
+    }
 }
@@ -6,17 +6,25 @@ import lombok.RequiredArgsConstructor;
 import org.example.scheduler.dto.comment.CommentRequestDto;
 import org.example.scheduler.dto.comment.CommentResponseDto;
 import org.example.scheduler.dto.comment.CommentUpdateRequestDto;
+import org.example.scheduler.dto.common.CursorPageResponseDto;
 import org.example.scheduler.service.CommentService;
+import org.example.scheduler.stream.CommentStreamHub;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor"; // 댓글 목록이 잘렸을 때 이어서 조회할 커서
+
     private final CommentService commentService;
+    private final CommentStreamHub commentStreamHub;
 
     /**
      * 특정 일정에 댓글 등록
@@ -27,19 +35,57 @@ public class CommentController {
      */
     @PostMapping("/schedules/{scheduleId}/comments")
     public ResponseEntity<CommentResponseDto> createComment(@PathVariable Long scheduleId, @Valid @RequestBody CommentRequestDto commentRequestDto, HttpServletRequest httpRequest){
-        Long userId = (Long) httpRequest.getSession().getAttribute("userId");
+        Long userId = (Long) httpRequest.getAttribute("userId");
         return new ResponseEntity<>(commentService.addCommentToSchedule(commentRequestDto, scheduleId, userId),  HttpStatus.CREATED);
     }
 
     /**
      * 특정 일정의 댓글 목록 조회
+     * - 최신 100건까지만 반환 (전체는 cursor 파라미터로 커서 기반 조회)
+     * - 더 있으면 X-Next-Cursor 헤더로 이어서 조회할 커서 전달
      *
      * @param scheduleId 일정 ID
      * @return 댓글 목록 (최신 수정일 기준 정렬)
      */
     @GetMapping("/schedules/{scheduleId}/comments")
     public ResponseEntity<List<CommentResponseDto>> getComments(@PathVariable Long scheduleId) {
-        return new ResponseEntity<>(commentService.getCommentsByScheduleId(scheduleId),  HttpStatus.OK);
+        CursorPageResponseDto<CommentResponseDto> page = commentService.getCommentsByScheduleId(scheduleId);
+        HttpHeaders headers = new HttpHeaders();
+        if (page.getNextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * 특정 일정의 댓글 변경 실시간 구독 (SSE)
+     * - comment-created / comment-updated / comment-deleted 이벤트 전달, 일정이 삭제되면 schedule-deleted 후 종료
+     * - 재연결 시 Last-Event-ID 헤더로 마지막으로 받은 이벤트 이후의 변경을 다시 받음
+     *
+     * @param scheduleId 일정 ID
+     * @param lastEventId 마지막으로 받은 이벤트 ID
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/schedules/{scheduleId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long scheduleId,
+                                     @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return commentStreamHub.subscribe(scheduleId, lastEventId);
+    }
+
+    /**
+     * 특정 일정의 댓글 목록 커서 기반 조회
+     * - cursor 파라미터가 있으면 (빈 값 = 첫 페이지) 전체 대신 size건씩 조회
+     *
+     * @param scheduleId 일정 ID
+     * @param cursor 이전 응답의 nextCursor 또는 일정 단건 조회의 nextCommentCursor
+     * @param size 페이지 크기
+     * @return 댓글 목록과 다음 페이지 커서 (최신 수정일 기준 정렬)
+     */
+    @GetMapping(value = "/schedules/{scheduleId}/comments", params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<CommentResponseDto>> getCommentsByCursor(@PathVariable Long scheduleId,
+                                                                                         @RequestParam(required = false) String cursor,
+                                                                                         @RequestParam(defaultValue = "10") int size) {
+        return new ResponseEntity<>(commentService.getCommentsByCursor(scheduleId, cursor, size), HttpStatus.OK);
     }
 
     /**
@@ -64,7 +110,7 @@ public class CommentController {
      */
     @PatchMapping("/schedules/{scheduleId}/comments/{commentId}")
     public ResponseEntity<CommentResponseDto> updateComment(@PathVariable Long scheduleId, @PathVariable Long commentId, @Valid @RequestBody CommentUpdateRequestDto commentUpdateRequestDto, HttpServletRequest httpRequest) {
-        Long userId = (Long) httpRequest.getSession().getAttribute("userId");
+        Long userId = (Long) httpRequest.getAttribute("userId");
         return new ResponseEntity<>(commentService.updateComment(scheduleId, commentId, userId, commentUpdateRequestDto),  HttpStatus.OK);
     }
 
@@ -76,7 +122,7 @@ public class CommentController {
      */
     @DeleteMapping("/schedules/{scheduleId}/comments/{commentId}")
     public ResponseEntity<Void> deleteComment(@PathVariable Long scheduleId, @PathVariable Long commentId, HttpServletRequest httpRequest) {
-        Long userId = (Long) httpRequest.getSession().getAttribute("userId");
+        Long userId = (Long) httpRequest.getAttribute("userId");
         commentService.deleteComment(scheduleId, commentId, userId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
@@ -0,0 +1,57 @@
+package org.example.scheduler.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.reminder.ReminderRequestDto;
+import org.example.scheduler.dto.reminder.ReminderResponseDto;
+import org.example.scheduler.service.ReminderService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class ReminderController {
+    private final ReminderService reminderService;
+
+    /**
+     * 본인 일정에 알림 등록 (일정 시작 offsetMinutes분 전에 전송)
+     *
+     * @param scheduleId 일정 ID
+     * @param reminderRequestDto 알림 등록 요청 정보
+     * @return 등록된 알림 정보
+     */
+    @PostMapping("/schedules/{scheduleId}/reminders")
+    public ResponseEntity<ReminderResponseDto> createReminder(@PathVariable Long scheduleId, @Valid @RequestBody ReminderRequestDto reminderRequestDto, HttpServletRequest httpRequest) {
+        Long userId = (Long) httpRequest.getAttribute("userId");
+        return new ResponseEntity<>(reminderService.addReminder(scheduleId, userId, reminderRequestDto), HttpStatus.CREATED);
+    }
+
+    /**
+     * 본인 일정의 알림 목록 조회
+     *
+     * @param scheduleId 일정 ID
+     * @return 알림 목록 (발송 시각 순)
+     */
+    @GetMapping("/schedules/{scheduleId}/reminders")
+    public ResponseEntity<List<ReminderResponseDto>> getReminders(@PathVariable Long scheduleId, HttpServletRequest httpRequest) {
+        Long userId = (Long) httpRequest.getAttribute("userId");
+        return new ResponseEntity<>(reminderService.getReminders(scheduleId, userId), HttpStatus.OK);
+    }
+
+    /**
+     * 알림 취소
+     *
+     * @param scheduleId 일정 ID
+     * @param reminderId 알림 ID
+     */
+    @DeleteMapping("/schedules/{scheduleId}/reminders/{reminderId}")
+    public ResponseEntity<Void> deleteReminder(@PathVariable Long scheduleId, @PathVariable Long reminderId, HttpServletRequest httpRequest) {
+        Long userId = (Long) httpRequest.getAttribute("userId");
+        reminderService.deleteReminder(scheduleId, reminderId, userId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
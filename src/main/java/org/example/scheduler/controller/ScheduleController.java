@@ -3,56 +3,197 @@ package org.example.scheduler.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.change.ChangeFeedResponseDto;
+import org.example.scheduler.dto.common.CursorPageResponseDto;
+import org.example.scheduler.dto.common.SliceResponseDto;
+import org.example.scheduler.dto.freebusy.FreeBusyResponseDto;
 import org.example.scheduler.dto.schedule.*;
+import org.example.scheduler.service.ChangeFeedService;
+import org.example.scheduler.service.FreeBusyService;
+import org.example.scheduler.service.ScheduleImportService;
 import org.example.scheduler.service.ScheduleService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class ScheduleController {
     private final ScheduleService scheduleService;
+    private final ScheduleImportService scheduleImportService;
+    private final ChangeFeedService changeFeedService;
+    private final FreeBusyService freeBusyService;
 
     /**
      * 새로운 일정 등록
      *
      * @param scheduleRequestDto 일정 생성 요청 정보
+     * @param rejectConflicts 기존 일정과 시간이 겹치면 409로 거절할지 여부 (기본 false)
      * @return 생성된 일정 정보
      */
     @PostMapping("/schedules")
-    public ResponseEntity<ScheduleResponseDto> createSchedule(@Valid @RequestBody ScheduleRequestDto scheduleRequestDto, HttpServletRequest httpRequest) {
-        Long userId = (Long) httpRequest.getSession().getAttribute("userId");
-        return new ResponseEntity<>(scheduleService.saveSchedule(scheduleRequestDto, userId), HttpStatus.CREATED);
+    public ResponseEntity<ScheduleResponseDto> createSchedule(@Valid @RequestBody ScheduleRequestDto scheduleRequestDto,
+                                                              @RequestParam(defaultValue = "false") boolean rejectConflicts,
+                                                              HttpServletRequest httpRequest) {
+        Long userId = (Long) httpRequest.getAttribute("userId");
+        return new ResponseEntity<>(scheduleService.saveSchedule(scheduleRequestDto, userId, rejectConflicts), HttpStatus.CREATED);
+    }
+
+    /**
+     * 일정 일괄 가져오기 (NDJSON, 한 줄에 일정 하나)
+     * - 각 줄은 일정 생성 요청과 같은 형식이며 comments 배열로 댓글을 함께 가져올 수 있음
+     *
+     * @return 처리 결과 및 줄별 실패 사유
+     */
+    @PostMapping(value = "/schedules/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ScheduleImportResponseDto> importSchedules(HttpServletRequest httpRequest) throws IOException {
+        Long userId = (Long) httpRequest.getAttribute("userId");
+        return new ResponseEntity<>(scheduleImportService.importSchedules(httpRequest.getInputStream(), userId), HttpStatus.OK);
+    }
+
+    /**
+     * 일정 제목/내용 검색
+     * - 한국어 형태소 단위로 검색하며 마지막 단어는 접두어로도 일치
+     *
+     * @param q 검색어
+     * @param size 최대 결과 수
+     * @return 일정 목록 (관련도 순 정렬)
+     */
+    @GetMapping("/schedules/search")
+    public ResponseEntity<List<SchedulePageResponseDto>> searchSchedules(@RequestParam String q,
+                                                                         @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(scheduleService.searchSchedules(q, size), HttpStatus.OK);
+    }
+
+    /**
+     * since 토큰 이후 생성/수정/삭제된 일정과 댓글 조회 (클라이언트 동기화용)
+     * - 토큰 없이 요청하면 현재 위치의 토큰만 반환
+     *
+     * @param since 이전 응답의 nextToken
+     * @param limit 한 번에 읽는 최대 변경 기록 수
+     * @return 변경된 일정/댓글, 삭제된 ID, 다음 토큰
+     */
+    @GetMapping("/schedules/changes")
+    public ResponseEntity<ChangeFeedResponseDto> getChanges(@RequestParam(required = false) String since,
+                                                            @RequestParam(defaultValue = "500") int limit) {
+        return new ResponseEntity<>(changeFeedService.getChanges(since, limit), HttpStatus.OK);
     }
 
     /**
      * 전체 일정 목록 또는 특정 작성자의 일정 목록 조회
      *
+     * - If-None-Match가 현재 ETag와 같으면 목록을 조회하지 않고 304 반환
+     * - totalElements/totalPages는 주기적으로 갱신되는 근사치 (마지막 페이지에서는 정확한 값)
+     *
      * @param userId (선택) 작성자 ID로 필터링할 경우 사용
      * @return 일정 목록 (최신 수정일 기준 정렬)
      */
     @GetMapping("/schedules")
     public ResponseEntity<Page<SchedulePageResponseDto>> getSchedulesPage(@RequestParam(required = false) Long userId,
                                                                           @RequestParam(defaultValue = "0") int page,
-                                                                          @RequestParam(defaultValue = "10") int size) {
+                                                                          @RequestParam(defaultValue = "10") int size,
+                                                                          WebRequest webRequest) {
+        if (webRequest.checkNotModified(scheduleService.getSchedulesETag())) {
+            return null; // 304 Not Modified
+        }
         if (userId == null) {
             return new ResponseEntity<>(scheduleService.getAllSchedules(page, size), HttpStatus.OK);
         }
         return new ResponseEntity<>(scheduleService.getSchedulesByUserId(userId, page, size), HttpStatus.OK);
     }
 
+    /**
+     * 여러 유저의 [from, to) 기간 free/busy 조회 (일정 생성 전 겹침 확인, 팀 일정 잡기용)
+     *
+     * @param userIds (선택) 유저 ID 목록 (쉼표 구분, 최대 20명), 없으면 로그인 유저
+     * @param from 조회 시작 시각 (포함, ISO-8601)
+     * @param to 조회 종료 시각 (제외, ISO-8601)
+     * @return 전체/유저별 바쁜 구간과 유저별 일정 겹침
+     */
+    @GetMapping("/schedules/free-busy")
+    public ResponseEntity<FreeBusyResponseDto> getFreeBusy(@RequestParam(required = false) List<Long> userIds,
+                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                           HttpServletRequest httpRequest) {
+        List<Long> targetUserIds = (userIds != null) ? userIds : List.of((Long) httpRequest.getAttribute("userId"));
+        return new ResponseEntity<>(freeBusyService.getFreeBusy(targetUserIds, from, to), HttpStatus.OK);
+    }
+
+    /**
+     * 특정 유저의 일정 중 [from, to) 기간과 겹치는 일정 조회 (캘린더 조회용)
+     *
+     * @param userId (선택) 유저 ID, 없으면 로그인 유저
+     * @param from 조회 시작 시각 (포함, ISO-8601)
+     * @param to 조회 종료 시각 (제외, ISO-8601)
+     * @return 일정 목록 (시작 시각 순 정렬)
+     */
+    @GetMapping(value = "/schedules", params = {"from", "to"})
+    public ResponseEntity<List<SchedulePageResponseDto>> getSchedulesInRange(@RequestParam(required = false) Long userId,
+                                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                             HttpServletRequest httpRequest, WebRequest webRequest) {
+        if (webRequest.checkNotModified(scheduleService.getSchedulesETag())) {
+            return null; // 304 Not Modified
+        }
+        Long targetUserId = (userId != null) ? userId : (Long) httpRequest.getAttribute("userId");
+        return new ResponseEntity<>(scheduleService.getSchedulesInRange(targetUserId, from, to), HttpStatus.OK);
+    }
+
+    /**
+     * 전체 일정 목록 또는 특정 작성자의 일정 목록을 전체 건수 없이 조회 (mode=slice, 무한 스크롤용)
+     *
+     * @param userId (선택) 작성자 ID로 필터링할 경우 사용
+     * @return 일정 목록과 다음 페이지 존재 여부 (최신 수정일 기준 정렬)
+     */
+    @GetMapping(value = "/schedules", params = "mode=slice")
+    public ResponseEntity<SliceResponseDto<SchedulePageResponseDto>> getSchedulesSlice(@RequestParam(required = false) Long userId,
+                                                                                       @RequestParam(defaultValue = "0") int page,
+                                                                                       @RequestParam(defaultValue = "10") int size,
+                                                                                       WebRequest webRequest) {
+        if (webRequest.checkNotModified(scheduleService.getSchedulesETag())) {
+            return null; // 304 Not Modified
+        }
+        return new ResponseEntity<>(scheduleService.getSchedulesSlice(userId, page, size), HttpStatus.OK);
+    }
+
+    /**
+     * 전체 일정 목록 또는 특정 작성자의 일정 목록 커서 기반 조회
+     * - cursor 파라미터가 있으면 (빈 값 = 첫 페이지) page 번호 대신 커서로 다음 페이지를 조회
+     *
+     * @param userId (선택) 작성자 ID로 필터링할 경우 사용
+     * @param cursor 이전 응답의 nextCursor
+     * @param size 페이지 크기
+     * @return 일정 목록과 다음 페이지 커서 (최신 수정일 기준 정렬)
+     */
+    @GetMapping(value = "/schedules", params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<SchedulePageResponseDto>> getSchedulesByCursor(@RequestParam(required = false) Long userId,
+                                                                                               @RequestParam(required = false) String cursor,
+                                                                                               @RequestParam(defaultValue = "10") int size,
+                                                                                               WebRequest webRequest) {
+        if (webRequest.checkNotModified(scheduleService.getSchedulesETag())) {
+            return null; // 304 Not Modified
+        }
+        return new ResponseEntity<>(scheduleService.getSchedulesByCursor(userId, cursor, size), HttpStatus.OK);
+    }
+
     /**
      * 특정 ID의 일정 및 일정에 달린 댓글 조회
      *
      * @param scheduleId 일정 ID
-     * @return 일정 및 댓글
+     * @return 일정 및 댓글 (If-None-Match가 현재 ETag와 같으면 304)
      */
     @GetMapping("/schedules/{scheduleId}")
-    public ResponseEntity<ScheduleWithCommentsResponseDto> getScheduleWithComments(@PathVariable Long scheduleId) {
+    public ResponseEntity<ScheduleWithCommentsResponseDto> getScheduleWithComments(@PathVariable Long scheduleId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(scheduleService.getScheduleETag(scheduleId))) {
+            return null; // 304 Not Modified
+        }
         return new ResponseEntity<>(scheduleService.getScheduleWithCommentsById(scheduleId), HttpStatus.OK);
     }
 
@@ -65,7 +206,7 @@ public class ScheduleController {
      */
     @PatchMapping("/schedules/{scheduleId}")
     public ResponseEntity<ScheduleResponseDto> updateSchedule(@PathVariable Long scheduleId, @Valid @RequestBody ScheduleUpdateRequestDto scheduleUpdateRequestDto, HttpServletRequest httpRequest) {
-        Long userId = (Long) httpRequest.getSession().getAttribute("userId");
+        Long userId = (Long) httpRequest.getAttribute("userId");
         return new ResponseEntity<>(scheduleService.updateSchedule(scheduleId, userId, scheduleUpdateRequestDto),  HttpStatus.OK);
 
     }
@@ -77,7 +218,7 @@ public class ScheduleController {
      */
     @DeleteMapping("/schedules/{scheduleId}")
     public ResponseEntity<Void> deleteSchedule(@PathVariable Long scheduleId, HttpServletRequest httpRequest) {
-        Long userId = (Long) httpRequest.getSession().getAttribute("userId");
+        Long userId = (Long) httpRequest.getAttribute("userId");
         scheduleService.deleteSchedule(scheduleId, userId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
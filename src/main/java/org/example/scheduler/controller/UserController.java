@@ -1,25 +1,34 @@
 package org.example.scheduler.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.common.CursorPageResponseDto;
 import org.example.scheduler.dto.login.LoginRequestDto;
+import org.example.scheduler.dto.login.LoginResponseDto;
 import org.example.scheduler.dto.user.UserDeleteRequestDto;
+import org.example.scheduler.dto.user.UserPurgeStatusResponseDto;
 import org.example.scheduler.dto.user.UserRequestDto;
 import org.example.scheduler.dto.user.UserResponseDto;
 import org.example.scheduler.dto.user.UserUpdateRequestDto;
+import org.example.scheduler.job.UserPurgeJob;
+import org.example.scheduler.service.AuthService;
 import org.example.scheduler.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final AuthService authService;
+    private final UserPurgeJob userPurgeJob;
 
     /**
      * 새로운 유저 등록
@@ -35,21 +44,59 @@ public class UserController {
     /**
      * 전체 유저 목록 조회
      *
-     * @return 유저 목록
+     * @return 유저 목록 (If-None-Match가 현재 ETag와 같으면 304)
      */
     @GetMapping("/users")
-    public ResponseEntity<List<UserResponseDto>> getUsers() {
+    public ResponseEntity<List<UserResponseDto>> getUsers(WebRequest webRequest) {
+        if (webRequest.checkNotModified(userService.getUsersETag())) {
+            return null; // 304 Not Modified
+        }
         return new ResponseEntity<>(userService.getAllUsers(),  HttpStatus.OK);
     }
 
+    /**
+     * 유저 목록 커서 기반 조회
+     * - cursor 파라미터가 있으면 (빈 값 = 첫 페이지) 전체 대신 size건씩 조회
+     *
+     * @param cursor 이전 응답의 nextCursor
+     * @param size 페이지 크기
+     * @return 유저 목록과 다음 페이지 커서
+     */
+    @GetMapping(value = "/users", params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<UserResponseDto>> getUsersByCursor(@RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(defaultValue = "10") int size,
+                                                                                   WebRequest webRequest) {
+        if (webRequest.checkNotModified(userService.getUsersETag())) {
+            return null; // 304 Not Modified
+        }
+        return new ResponseEntity<>(userService.getUsersByCursor(cursor, size), HttpStatus.OK);
+    }
+
+    /**
+     * 전체 유저 목록 스트리밍 조회 (NDJSON, 한 줄에 유저 하나)
+     *
+     * @param response 유저를 읽는 즉시 기록할 응답
+     */
+    @GetMapping("/users/stream")
+    public void streamUsers(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType("application/x-ndjson");
+        userService.streamAllUsers(response.getOutputStream());
+    }
+
     /**
      * 특정 ID의 유저 조회
      *
      * @param userId 유저 ID
-     * @return 유저
+     * @return 유저 (If-None-Match가 현재 ETag와 같으면 304)
      */
     @GetMapping("/users/{userId}")
-    public ResponseEntity<UserResponseDto> getUser(@PathVariable Long userId) {
+    public ResponseEntity<UserResponseDto> getUser(@PathVariable Long userId, WebRequest webRequest) {
+        String eTag = userService.getUserETag(userId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
         return new ResponseEntity<>(userService.getUserById(userId), HttpStatus.OK);
     }
 
@@ -62,35 +109,36 @@ public class UserController {
      */
     @PatchMapping("/users/{userId}")
     public ResponseEntity<UserResponseDto> updateUser(@PathVariable Long userId, @Valid @RequestBody UserUpdateRequestDto userUpdateRequestDto, HttpServletRequest httpRequest) {
-        Long sessionUserId = (Long) httpRequest.getSession().getAttribute("userId");
+        Long sessionUserId = (Long) httpRequest.getAttribute("userId");
         return new ResponseEntity<>(userService.updateUser(userId, sessionUserId, userUpdateRequestDto),  HttpStatus.OK);
 
     }
 
     /**
      * 특정 ID의 유저 삭제
+     * - 유저는 즉시 탈퇴 처리되고, 관련 일정/댓글은 백그라운드에서 삭제
      *
      * @param userId 유저 ID
      * @param userDeleteRequestDto 삭제 요청 정보 (비밀번호)
+     * @return 삭제 진행 상태
      */
     @DeleteMapping("/users/{userId}")
-    public ResponseEntity<Void> deleteUser(@PathVariable Long userId, @Valid @RequestBody UserDeleteRequestDto userDeleteRequestDto, HttpServletRequest httpRequest) {
-        HttpSession session = httpRequest.getSession(false);
-        Long sessionUserId = (Long) session.getAttribute("userId");
+    public ResponseEntity<UserPurgeStatusResponseDto> deleteUser(@PathVariable Long userId, @Valid @RequestBody UserDeleteRequestDto userDeleteRequestDto, HttpServletRequest httpRequest) {
+        Long sessionUserId = (Long) httpRequest.getAttribute("userId");
         userService.deleteUser(userId, sessionUserId, userDeleteRequestDto);
-        session.invalidate(); // 유저 삭제 시 세션 종료
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        authService.logout(httpRequest); // 유저 삭제 시 세션 종료 (토큰 모드는 유저의 토큰 전체가 무효화됨)
+        return new ResponseEntity<>(userPurgeJob.getStatus(userId), HttpStatus.ACCEPTED);
     }
 
     /**
      * 로그인
      *
      * @param loginRequestDto 로그인 요청 정보
+     * @return 토큰 모드에서는 발급된 토큰 (세션 모드는 본문 없음)
      */
     @PostMapping("/login")
-    public ResponseEntity<Void> login(@Valid @RequestBody LoginRequestDto loginRequestDto, HttpServletRequest request) {
-        userService.login(loginRequestDto, request);
-        return new ResponseEntity<>(HttpStatus.OK);
+    public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequestDto, HttpServletRequest request) {
+        return new ResponseEntity<>(authService.login(loginRequestDto, request), HttpStatus.OK);
     }
 
     /**
@@ -98,10 +146,7 @@ public class UserController {
      */
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            session.invalidate();
-        }
+        authService.logout(request);
         return new ResponseEntity<>(HttpStatus.OK);
     }
 }
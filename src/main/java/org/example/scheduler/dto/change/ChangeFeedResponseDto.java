@@ -0,0 +1,23 @@
+package org.example.scheduler.dto.change;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+
+import java.util.List;
+
+/**
+ * 변경 피드 조회 결과를 응답할 때 사용하는 DTO
+ * - 같은 항목이 여러 번 바뀌었으면 현재 상태 하나만 포함
+ */
+@Getter
+@AllArgsConstructor
+public class ChangeFeedResponseDto {
+    private final List<SchedulePageResponseDto> schedules;  // 생성/수정된 일정 (현재 상태)
+    private final List<Long> deletedScheduleIds;            // 삭제된 일정 ID (달린 댓글도 함께 삭제된 것으로 처리)
+    private final List<CommentResponseDto> comments;        // 생성/수정된 댓글 (현재 상태)
+    private final List<Long> deletedCommentIds;             // 삭제된 댓글 ID
+    private final String nextToken;                         // 다음 요청의 since 값
+    private final boolean hasMore;                          // 바로 이어서 조회할 변경이 더 있는지 여부
+}
@@ -1,5 +1,6 @@
 package org.example.scheduler.dto.comment;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.example.scheduler.entity.Comment;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
  * 댓글 정보를 응답할 때 사용하는 DTO
  */
 @Getter
+@AllArgsConstructor
 public class CommentResponseDto {
     private final Long id;                  // 댓글 ID
     private final Long userId;              // 유저 ID
@@ -16,6 +18,7 @@ public class CommentResponseDto {
     private final String content;           // 내용
     private final LocalDateTime createdAt;  // 작성일
     private final LocalDateTime modifiedAt; // 수정일
+    private final long version;             // 수정 버전 (수정 요청 시 전달하면 그 사이 다른 수정이 있을 때 409)
 
 
     public CommentResponseDto(Comment comment) {
@@ -25,6 +28,7 @@ public class CommentResponseDto {
         this.content = comment.getContent();
         this.createdAt = comment.getCreatedAt();
         this.modifiedAt = comment.getModifiedAt();
+        this.version = comment.getVersion();
     }
 
     public static CommentResponseDto from(Comment comment) {
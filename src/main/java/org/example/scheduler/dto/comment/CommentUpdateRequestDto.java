@@ -12,4 +12,6 @@ public class CommentUpdateRequestDto {
     @NotBlank(message = "내용을 입력해주세요.")
     @Size(min = 1, max = 100, message = "내용은 최대 100자까지 작성 가능합니다.")
     private String content;     // 내용
+
+    private Long version;       // 조회 시 받은 버전 (생략하면 버전 확인 없이 수정)
 }
@@ -0,0 +1,66 @@
+package org.example.scheduler.dto.common;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 변경 피드에서 마지막으로 전달한 변경 기록 위치
+ * - 변경 기록 ID와 그 위치의 기록 시각을 URL-safe Base64 문자열로 전달 (기록 시각으로 보관 기간 초과 여부 판단)
+ * - 발급 시각을 쓰면 오래된 기록을 여러 페이지에 걸쳐 읽는 동안 토큰만 새로워져, 읽지 않은 기록이 삭제되어도 알 수 없음
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChangeToken {
+    private static final char DELIMITER = '|';
+
+    private final long changeId;            // 마지막으로 전달한 변경 기록 ID
+    private final LocalDateTime changedAt;  // 마지막으로 전달한 변경 기록의 기록 시각 (이 시각 이후 기록은 아직 읽지 않음)
+
+    public static ChangeToken of(long changeId, LocalDateTime changedAt) {
+        return new ChangeToken(changeId, changedAt);
+    }
+
+    /**
+     * 토큰을 클라이언트에 전달할 문자열로 변환
+     *
+     * @return 인코딩된 토큰
+     */
+    public String encode() {
+        String raw = changeId + String.valueOf(DELIMITER) + changedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 토큰 문자열 해석
+     *
+     * @param encoded 인코딩된 토큰 (비어 있으면 최초 요청)
+     * @return 토큰, 최초 요청인 경우 null
+     * @throws CustomException 형식이 올바르지 않은 경우 400 반환
+     */
+    public static ChangeToken decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new CustomException(ErrorCode.INVALID_CHANGE_TOKEN);
+            }
+            return new ChangeToken(
+                    Long.parseLong(raw.substring(0, delimiterIndex)),
+                    LocalDateTime.parse(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CHANGE_TOKEN);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.scheduler.dto.common;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션에서 마지막으로 조회한 (수정일, ID) 위치
+ * - 클라이언트에는 URL-safe Base64 문자열로만 전달되어 내부 구조를 노출하지 않음
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+    private static final char DELIMITER = '|';
+
+    private final LocalDateTime modifiedAt; // 마지막 행의 수정일
+    private final Long id;                  // 마지막 행의 ID (수정일이 같을 때의 순서 보장)
+
+    public static Cursor of(LocalDateTime modifiedAt, Long id) {
+        return new Cursor(modifiedAt, id);
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 변환
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        String raw = modifiedAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열 해석
+     *
+     * @param encoded 인코딩된 커서 (비어 있으면 첫 페이지)
+     * @return 커서, 첫 페이지인 경우 null
+     * @throws CustomException 형식이 올바르지 않은 경우 400 반환
+     */
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
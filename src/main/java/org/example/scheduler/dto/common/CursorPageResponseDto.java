@@ -0,0 +1,34 @@
+package org.example.scheduler.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 조회 결과를 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+    private final List<T> content;      // 조회 결과
+    private final int size;             // 요청한 페이지 크기
+    private final boolean hasNext;      // 다음 페이지 존재 여부
+    private final String nextCursor;    // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+
+    /**
+     * size + 1건으로 조회한 결과로 커서 페이지 생성
+     *
+     * @param rows size + 1건까지 조회한 결과
+     * @param size 요청한 페이지 크기
+     * @param cursorOf 행에서 커서를 추출하는 함수
+     * @return 커서 페이지
+     */
+    public static <T> CursorPageResponseDto<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageResponseDto<>(content, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.scheduler.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 전체 건수 없이 다음 페이지 존재 여부만 포함하는 페이지 조회 결과 DTO (무한 스크롤용)
+ */
+@Getter
+@AllArgsConstructor
+public class SliceResponseDto<T> {
+    private final List<T> content;  // 조회 결과
+    private final int page;         // 페이지 번호
+    private final int size;         // 요청한 페이지 크기
+    private final boolean hasNext;  // 다음 페이지 존재 여부
+
+    public static <T> SliceResponseDto<T> from(Slice<T> slice) {
+        return new SliceResponseDto<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.scheduler.dto.common;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 응답을 만들지 않고 집계 쿼리로 읽은 리소스의 버전 정보 (ETag 계산용)
+ * - 마지막 수정일: 수정/추가를 감지
+ * - 건수와 ID 합계: 삭제를 감지 (삭제된 행은 수정일 집계에서 빠지므로)
+ */
+@Getter
+public class VersionStamp {
+    private final LocalDateTime lastModifiedAt; // 마지막 수정일 (대상이 없으면 null)
+    private final long count;                   // 건수
+    private final long checksum;                // ID 합계
+
+    public VersionStamp(LocalDateTime lastModifiedAt, Long count, Long checksum) {
+        this.lastModifiedAt = lastModifiedAt;
+        this.count = (count == null) ? 0 : count;
+        this.checksum = (checksum == null) ? 0 : checksum;
+    }
+
+    /**
+     * 리소스 종류와 버전 정보로 강한 ETag 생성
+     *
+     * @param resource 리소스 종류 (다른 리소스와 값이 겹치지 않도록 구분)
+     * @return 따옴표로 감싼 ETag
+     */
+    public String toETag(String resource) {
+        return eTag(resource, lastModifiedAt, count, checksum);
+    }
+
+    /**
+     * 버전 구성 값들로 강한 ETag 생성
+     * - 내부 ID/건수가 노출되지 않도록 해시로 변환
+     *
+     * @param resource 리소스 종류
+     * @param parts 버전 구성 값
+     * @return 따옴표로 감싼 ETag
+     */
+    public static String eTag(String resource, Object... parts) {
+        StringBuilder raw = new StringBuilder(resource);
+        for (Object part : parts) {
+            raw.append('|').append(part);
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(raw.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + resource + "-" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.scheduler.dto.freebusy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 바쁜 구간 [startAt, endAt)을 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class BusyIntervalDto {
+    private final LocalDateTime startAt;    // 시작 시각 (포함)
+    private final LocalDateTime endAt;      // 종료 시각 (제외)
+}
@@ -0,0 +1,18 @@
+package org.example.scheduler.dto.freebusy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 한 유저의 일정 두 개 이상이 겹치는 구간을 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class ConflictDto {
+    private final LocalDateTime startAt;    // 겹침 시작 시각 (포함)
+    private final LocalDateTime endAt;      // 겹침 종료 시각 (제외)
+    private final List<Long> scheduleIds;   // 겹치는 일정 ID (ID 순)
+}
@@ -0,0 +1,19 @@
+package org.example.scheduler.dto.freebusy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 유저의 free/busy 조회 결과를 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class FreeBusyResponseDto {
+    private final LocalDateTime from;           // 조회 시작 시각 (포함)
+    private final LocalDateTime to;             // 조회 종료 시각 (제외)
+    private final List<BusyIntervalDto> busy;   // 한 명이라도 바쁜 구간 (모든 유저를 합친 결과, 시작 시각 순)
+    private final List<UserFreeBusyDto> users;  // 유저별 바쁜 구간과 겹치는 일정 (요청 순서)
+}
@@ -0,0 +1,17 @@
+package org.example.scheduler.dto.freebusy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 유저 한 명의 바쁜 구간과 겹치는 일정을 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class UserFreeBusyDto {
+    private final Long userId;                  // 유저 ID
+    private final List<BusyIntervalDto> busy;   // 합친 바쁜 구간 (시작 시각 순)
+    private final List<ConflictDto> conflicts;  // 일정끼리 겹치는 구간 (시작 시각 순)
+}
@@ -0,0 +1,17 @@
+package org.example.scheduler.dto.login;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 토큰 인증 모드에서 로그인 성공 시 응답하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class LoginResponseDto {
+    private final String accessToken;   // Authorization: Bearer 헤더에 담아 보낼 토큰
+    private final String tokenType;     // 토큰 타입 (Bearer)
+    private final Instant expiresAt;    // 만료 시각
+}
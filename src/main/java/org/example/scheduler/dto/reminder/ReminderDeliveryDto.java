@@ -0,0 +1,33 @@
+package org.example.scheduler.dto.reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scheduler.entity.RecurrenceRule;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선점한 알림을 전송 대상(ReminderSink)에 넘길 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderDeliveryDto {
+    private final Long reminderId;          // 알림 ID
+    private final Long scheduleId;          // 일정 ID
+    private final Long userId;              // 일정 작성자 ID (받는 사람)
+    private final String title;             // 일정 제목
+    private final int offsetMinutes;        // 일정 시작 몇 분 전 알림인지
+    private final LocalDateTime fireAt;     // 예정된 전송 시각
+    private final LocalDateTime startAt;    // 일정 첫 시작 시각
+    private final RecurrenceRule recurrence; // 반복 규칙 (없으면 null)
+    private final int attempts;             // 이번 시도를 포함한 시도 횟수
+
+    /**
+     * 알림 대상 회차의 시작 시각 (반복 일정이면 해당 발생의 시각)
+     *
+     * @return 시작 시각
+     */
+    public LocalDateTime getOccurrenceStartAt() {
+        return fireAt.plusMinutes(offsetMinutes);
+    }
+}
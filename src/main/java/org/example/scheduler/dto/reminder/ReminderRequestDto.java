@@ -0,0 +1,17 @@
+package org.example.scheduler.dto.reminder;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+/**
+ * 일정 알림 등록 요청 시 전달받는 DTO
+ */
+@Getter
+public class ReminderRequestDto {
+    @NotNull(message = "알림 시각(일정 시작 몇 분 전)을 입력해주세요.")
+    @Min(value = 0, message = "알림 시각은 0분 이상이어야 합니다.")
+    @Max(value = 40320, message = "알림 시각은 최대 4주(40320분) 전까지 가능합니다.")
+    private Integer offsetMinutes;  // 일정 시작 몇 분 전에 보낼지
+}
@@ -0,0 +1,32 @@
+package org.example.scheduler.dto.reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scheduler.entity.Reminder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 알림 정보를 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderResponseDto {
+    private final Long id;                  // 알림 ID
+    private final Long scheduleId;          // 일정 ID
+    private final int offsetMinutes;        // 일정 시작 몇 분 전에 보낼지
+    private final LocalDateTime fireAt;     // 다음 전송 시각
+    private final Reminder.Status status;   // 상태
+
+    public ReminderResponseDto(Reminder reminder) {
+        this.id = reminder.getId();
+        this.scheduleId = reminder.getScheduleId();
+        this.offsetMinutes = reminder.getOffsetMinutes();
+        this.fireAt = reminder.getFireAt();
+        this.status = reminder.getStatus();
+    }
+
+    public static ReminderResponseDto from(Reminder reminder) {
+        return new ReminderResponseDto(reminder);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.scheduler.dto.schedule;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import org.example.scheduler.dto.comment.CommentRequestDto;
+
+import java.util.List;
+
+/**
+ * 일정 일괄 가져오기(NDJSON) 한 줄에 해당하는 DTO
+ * - 일정 필드는 일정 생성 요청과 동일한 조건으로 검증
+ */
+@Getter
+public class ScheduleImportRequestDto extends ScheduleRequestDto {
+    @Valid
+    @Size(max = 1000, message = "댓글은 한 일정당 최대 1000개까지 가져올 수 있습니다.")
+    private List<CommentRequestDto> comments;   // (선택) 함께 가져올 댓글
+}
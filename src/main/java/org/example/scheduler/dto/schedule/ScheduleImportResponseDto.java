@@ -0,0 +1,26 @@
+package org.example.scheduler.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정 일괄 가져오기 결과를 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleImportResponseDto {
+    private final long totalLines;          // 처리한 줄 수 (빈 줄 제외)
+    private final long importedCount;       // 저장된 일정 수
+    private final long failedCount;         // 실패한 줄 수
+    private final List<LineError> errors;   // 실패한 줄별 사유 (최대 개수까지만 포함)
+    private final boolean errorsTruncated;  // 실패 사유 일부 생략 여부
+
+    @Getter
+    @AllArgsConstructor
+    public static class LineError {
+        private final long line;            // 줄 번호 (1부터 시작)
+        private final String message;       // 실패 사유
+    }
+}
@@ -2,6 +2,7 @@ package org.example.scheduler.dto.schedule;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.example.scheduler.entity.RecurrenceRule;
 
 import java.time.LocalDateTime;
 
@@ -11,8 +12,22 @@ public class SchedulePageResponseDto {
     private final Long id;                  // 일정 ID
     private final String title;             // 제목
     private final String content;           // 내용
+    private final LocalDateTime startAt;    // 시작 시각
+    private final LocalDateTime endAt;      // 종료 시각 (반복 일정의 기간 조회 결과는 해당 발생의 시각)
+    private final RecurrenceRule recurrence; // 반복 규칙 (없으면 null)
     private final long commentCount;        // 댓글 개수
     private final LocalDateTime createdAt;  // 작성일
     private final LocalDateTime modifiedAt; // 수정일
     private final String userName;          // 유저명
+
+    /**
+     * 반복 일정의 특정 발생으로 변환 (시작/종료 시각만 다름)
+     *
+     * @param occurrenceStartAt 발생 시작 시각
+     * @param occurrenceEndAt 발생 종료 시각
+     * @return 발생 정보
+     */
+    public SchedulePageResponseDto toOccurrence(LocalDateTime occurrenceStartAt, LocalDateTime occurrenceEndAt) {
+        return new SchedulePageResponseDto(id, title, content, occurrenceStartAt, occurrenceEndAt, recurrence, commentCount, createdAt, modifiedAt, userName);
+    }
 }
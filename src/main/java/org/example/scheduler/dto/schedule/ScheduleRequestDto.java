@@ -1,8 +1,12 @@
 package org.example.scheduler.dto.schedule;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
+import org.example.scheduler.entity.RecurrenceRule;
+
+import java.time.LocalDateTime;
 
 /**
  * 일정 생성 요청 시 전달받는 DTO
@@ -16,4 +20,29 @@ public class ScheduleRequestDto {
     @NotBlank(message = "내용을 입력해주세요.")
     @Size(min = 1, max = 200, message = "내용은 최대 200자까지 작성 가능합니다.")
     private String content;     // 내용
+
+    private LocalDateTime startAt;  // (선택) 시작 시각
+
+    private LocalDateTime endAt;    // (선택) 종료 시각
+
+    @Size(max = 1000, message = "반복 규칙은 최대 1000자까지 작성 가능합니다.")
+    private String recurrence;      // (선택) 반복 규칙 (예: FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=2026-12-31T23:59;EXDATE=2025-09-01)
+
+    @AssertTrue(message = "시작/종료 시각은 함께 입력해야 하며 종료 시각은 시작 시각 이후여야 합니다.")
+    public boolean isTimeRangeValid() {
+        if (startAt == null || endAt == null) {
+            return startAt == null && endAt == null;
+        }
+        return endAt.isAfter(startAt);
+    }
+
+    @AssertTrue(message = "반복 규칙은 시작/종료 시각과 함께 입력해야 합니다.")
+    public boolean isRecurrenceWithTimeRange() {
+        return recurrence == null || (startAt != null && endAt != null);
+    }
+
+    @AssertTrue(message = "반복 규칙 형식이 올바르지 않습니다.")
+    public boolean isRecurrenceValid() {
+        return RecurrenceRule.isValid(recurrence);
+    }
 }
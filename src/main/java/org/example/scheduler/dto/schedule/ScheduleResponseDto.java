@@ -1,6 +1,8 @@
 package org.example.scheduler.dto.schedule;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.example.scheduler.entity.RecurrenceRule;
 import org.example.scheduler.entity.Schedule;
 
 import java.time.LocalDateTime;
@@ -9,13 +11,18 @@ import java.time.LocalDateTime;
  * 일정 정보를 응답할 때 사용하는 DTO
  */
 @Getter
+@AllArgsConstructor
 public class ScheduleResponseDto {
     private final Long id;                  // 일정 ID
     private final Long userId;              // 유저 ID
     private final String title;             // 제목
     private final String content;           // 내용
+    private final LocalDateTime startAt;    // 시작 시각
+    private final LocalDateTime endAt;      // 종료 시각
+    private final RecurrenceRule recurrence; // 반복 규칙 (없으면 null)
     private final LocalDateTime createdAt;  // 작성일
     private final LocalDateTime modifiedAt; // 수정일
+    private final long version;             // 수정 버전 (수정 요청 시 전달하면 그 사이 다른 수정이 있을 때 409)
 
 
     public ScheduleResponseDto(Schedule schedule) {
@@ -23,8 +30,12 @@ public class ScheduleResponseDto {
         this.userId = schedule.getUser().getId();
         this.title = schedule.getTitle();
         this.content = schedule.getContent();
+        this.startAt = schedule.getStartAt();
+        this.endAt = schedule.getEndAt();
+        this.recurrence = schedule.getRecurrence();
         this.createdAt = schedule.getCreatedAt();
         this.modifiedAt = schedule.getModifiedAt();
+        this.version = schedule.getVersion();
     }
 
     public static ScheduleResponseDto from(Schedule schedule) {
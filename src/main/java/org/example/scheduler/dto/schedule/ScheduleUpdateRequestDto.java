@@ -1,7 +1,11 @@
 package org.example.scheduler.dto.schedule;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
+import org.example.scheduler.entity.RecurrenceRule;
+
+import java.time.LocalDateTime;
 
 /**
  * 일정 수정 요청 시 전달받는 DTO
@@ -13,4 +17,31 @@ public class ScheduleUpdateRequestDto {
 
     @Size(min = 1, max = 200, message = "내용은 최대 200자까지 작성 가능합니다.")
     private String content;
+
+    private LocalDateTime startAt;  // 시작 시각
+
+    private LocalDateTime endAt;    // 종료 시각
+
+    @Size(max = 1000, message = "반복 규칙은 최대 1000자까지 작성 가능합니다.")
+    private String recurrence;      // (선택) 반복 규칙 (예: FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=2026-12-31T23:59;EXDATE=2025-09-01)
+
+    private Long version;       // 조회 시 받은 버전 (생략하면 버전 확인 없이 수정)
+
+    @AssertTrue(message = "시작/종료 시각은 함께 입력해야 하며 종료 시각은 시작 시각 이후여야 합니다.")
+    public boolean isTimeRangeValid() {
+        if (startAt == null || endAt == null) {
+            return startAt == null && endAt == null;
+        }
+        return endAt.isAfter(startAt);
+    }
+
+    @AssertTrue(message = "반복 규칙은 시작/종료 시각과 함께 입력해야 합니다.")
+    public boolean isRecurrenceWithTimeRange() {
+        return recurrence == null || (startAt != null && endAt != null);
+    }
+
+    @AssertTrue(message = "반복 규칙 형식이 올바르지 않습니다.")
+    public boolean isRecurrenceValid() {
+        return RecurrenceRule.isValid(recurrence);
+    }
 }
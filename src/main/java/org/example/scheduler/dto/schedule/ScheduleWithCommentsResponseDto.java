@@ -7,18 +7,21 @@ import java.util.List;
 
 /**
  * 단일 일정 및 댓글 정보를 응답할 때 사용하는 DTO
+ * - 댓글은 첫 페이지만 포함하고, 나머지는 nextCommentCursor로 댓글 목록 API에서 이어서 조회
  */
 @Getter
 public class ScheduleWithCommentsResponseDto {
     private ScheduleResponseDto schedule;       // 단일 일정 정보
-    private List<CommentResponseDto> comments;  // 댓글 정보
+    private List<CommentResponseDto> comments;  // 댓글 정보 (첫 페이지)
+    private String nextCommentCursor;           // 다음 댓글 페이지 조회용 커서 (더 없으면 null)
 
-    public ScheduleWithCommentsResponseDto(ScheduleResponseDto scheduleResponseDto, List<CommentResponseDto> comments) {
+    public ScheduleWithCommentsResponseDto(ScheduleResponseDto scheduleResponseDto, List<CommentResponseDto> comments, String nextCommentCursor) {
         this.schedule = scheduleResponseDto;
         this.comments = comments;
+        this.nextCommentCursor = nextCommentCursor;
     }
 
-    public static ScheduleWithCommentsResponseDto of(ScheduleResponseDto scheduleResponseDto, List<CommentResponseDto> comments) {
-        return new ScheduleWithCommentsResponseDto(scheduleResponseDto, comments);
+    public static ScheduleWithCommentsResponseDto of(ScheduleResponseDto scheduleResponseDto, List<CommentResponseDto> comments, String nextCommentCursor) {
+        return new ScheduleWithCommentsResponseDto(scheduleResponseDto, comments, nextCommentCursor);
     }
-}
\ No newline at end of file
+}
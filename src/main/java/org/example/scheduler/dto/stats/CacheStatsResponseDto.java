@@ -0,0 +1,25 @@
+package org.example.scheduler.dto.stats;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시 통계를 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStatsResponseDto {
+    private final String name;          // 캐시 이름
+    private final long estimatedSize;   // 현재 항목 수 (근사치)
+    private final long hitCount;        // 적중 횟수
+    private final long missCount;       // 미적중 횟수
+    private final double hitRate;       // 적중률
+    private final long loadCount;       // 원본(DB) 로딩 횟수
+    private final long evictionCount;   // 용량/만료로 인한 제거 횟수
+
+    public static CacheStatsResponseDto of(String name, long estimatedSize, CacheStats stats) {
+        return new CacheStatsResponseDto(name, estimatedSize, stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.loadCount(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.scheduler.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 SSE 스트림 통계를 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class CommentStreamStatsResponseDto {
+    private final int subscriberCount;      // 현재 구독자 수
+    private final int scheduleCount;        // 구독 중인 일정 수
+    private final long sentCount;           // 전송한 이벤트 수
+    private final long evictedCount;        // 버퍼 초과 또는 전송 지연으로 연결을 끊은 구독자 수
+}
@@ -0,0 +1,22 @@
+package org.example.scheduler.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 전송기 통계를 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderStatsResponseDto {
+    private final int scheduledCount;           // 타이밍 휠에 올라가 있는 알림 수
+    private final LocalDateTime loadedUntil;    // 이 시각 이전 알림까지 휠에 적재됨
+    private final long deliveredCount;          // 전송 성공 수
+    private final long retriedCount;            // 전송 실패 후 재시도 예약 수
+    private final long failedCount;             // 최대 시도 횟수를 넘겨 포기한 수
+    private final long skippedCount;            // 선점하지 못해 건너뛴 수 (다른 인스턴스가 처리, 취소/재예약, 일정 삭제)
+    private final double averageLagMillis;      // 예정 시각 대비 평균 전송 지연 (ms)
+    private final long maxLagMillis;            // 최대 전송 지연 (ms)
+}
@@ -0,0 +1,28 @@
+package org.example.scheduler.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴 유저의 일정/댓글 삭제 진행 상태를 응답할 때 사용하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class UserPurgeStatusResponseDto {
+    public enum State {
+        PENDING,    // 대기 중
+        RUNNING,    // 삭제 중
+        COMPLETED,  // 완료
+        FAILED      // 실패 (주기적으로 다시 시도)
+    }
+
+    private final Long userId;                  // 탈퇴 유저 ID
+    private final State state;                  // 진행 상태
+    private final long deletedSchedules;        // 지금까지 삭제된 일정 수
+    private final long deletedComments;         // 지금까지 삭제된 댓글 수
+    private final LocalDateTime startedAt;      // 시작 일시
+    private final LocalDateTime finishedAt;     // 종료 일시
+    private final String message;               // 실패 사유
+}
@@ -1,5 +1,6 @@
 package org.example.scheduler.dto.user;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.example.scheduler.entity.User;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
  * 유저 정보를 응답할 때 사용하는 DTO
  */
 @Getter
+@AllArgsConstructor
 public class UserResponseDto {
     private Long id;                        // 유저 ID
     private String name;                    // 유저명
@@ -0,0 +1,44 @@
+package org.example.scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+ * 변경 기록 Entity
+ * - 일정/댓글이 생성/수정/삭제될 때마다 같은 트랜잭션에서 한 행씩 기록 (ChangeLogRecorder)
+ * - ID는 커밋 직전에 증가 순으로 발급되므로 변경 피드는 ID 순서로 읽음
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_change_log_changed_at", columnList = "changedAt") // 보관 기간 지난 기록 정리
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChangeLog {
+    public enum EntityType { SCHEDULE, COMMENT }
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // 커밋 순서에 가깝게 증가해야 하므로 미리 할당하지 않음
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EntityType entityType;  // 대상 종류
+
+    @Column(nullable = false)
+    private Long entityId;          // 일정 또는 댓글 ID
+
+    private Long scheduleId;        // 댓글이 달린 일정 ID (일정이면 entityId와 같음)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeType changeType;  // 변경 유형
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;    // 기록 시각
+}
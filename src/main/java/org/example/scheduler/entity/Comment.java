@@ -5,38 +5,53 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 /*
  * 댓글 Entity
  * - 일정에 대한 댓글 정보를 저장
  * - BaseEntity 상속을 통해 작성/수정일 자동 관리
+ * - 삭제 시 deletedAt만 기록하고 모든 조회에서 제외, 실제 삭제는 TombstoneReaperJob이 한가한 시간에 처리
+ * - 내용 수정은 CommentRepository.updateIfOwned로 작성자/버전 확인과 함께 UPDATE 한 번에 처리
  */
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_schedule_modified_at_id", columnList = "scheduleId, modifiedAt, id"), // 일정별 댓글 키셋 페이지네이션
+        @Index(name = "idx_comment_deleted_at", columnList = "deletedAt")                                // 삭제 표시된 댓글 정리
+})
+@SQLRestriction("deleted_at is null")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
     private Long id;    // 댓글 ID (자동 생성)
 
     @Setter
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId")
     private User user;     // 작성자
 
     @Setter
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "scheduleId")
     private Schedule schedule;     // 일정
 
     @Column(nullable = false, length = 100)
     private String content;     // 내용
 
-    public Comment(String content) {
-        this.content = content;
-    }
+    private LocalDateTime deletedAt;    // 삭제 일시 (null이면 유효한 댓글)
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;   // 수정 버전 (내용 수정마다 1 증가, 동시 수정 감지)
 
-    public void updateContent(String content){
+    public Comment(String content) {
         this.content = content;
     }
 }
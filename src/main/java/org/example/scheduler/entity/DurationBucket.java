@@ -0,0 +1,72 @@
+package org.example.scheduler.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 일정 길이 구간
+ * - 구간마다 최대 길이가 정해져 있으므로 "종료 > from" 조건을 "시작 >= from - 최대 길이"로 바꿔
+ *   (userId, durationBucket, startAt) 인덱스의 시작 시각 범위만 읽을 수 있음
+ * - 최대 길이가 없는 LONGER 구간은 드물다고 보고 시작 시각 조건만으로 조회
+ * - 반복 일정은 RECURRING 구간에 따로 두고, 발생 시각은 조회 구간 안에서만 계산
+ */
+@Getter
+@AllArgsConstructor
+public enum DurationBucket {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7)),
+    MONTH(Duration.ofDays(31)),
+    LONGER(null),
+    RECURRING(null);
+
+    private final Duration maxDuration;     // 구간에 속하는 일정의 최대 길이 (LONGER는 제한 없음)
+
+    /**
+     * 일정 길이에 해당하는 구간 (반복 일정이 아닌 경우)
+     *
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @return 길이 구간 (시각이 없으면 null)
+     */
+    public static DurationBucket of(LocalDateTime startAt, LocalDateTime endAt) {
+        if (startAt == null || endAt == null) {
+            return null;
+        }
+        Duration duration = Duration.between(startAt, endAt);
+        for (DurationBucket bucket : new DurationBucket[] {HOUR, DAY, WEEK, MONTH}) {
+            if (duration.compareTo(bucket.maxDuration) <= 0) {
+                return bucket;
+            }
+        }
+        return LONGER;
+    }
+
+    /**
+     * 일정의 구간 (반복 규칙이 있으면 RECURRING)
+     *
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @param recurrence 반복 규칙
+     * @return 구간 (시각이 없으면 null)
+     */
+    public static DurationBucket of(LocalDateTime startAt, LocalDateTime endAt, RecurrenceRule recurrence) {
+        if (recurrence != null && startAt != null && endAt != null) {
+            return RECURRING;
+        }
+        return of(startAt, endAt);
+    }
+
+    /**
+     * from 이후에 끝나는 이 구간의 일정이 가질 수 있는 가장 이른 시작 시각
+     *
+     * @param from 조회 시작 시각
+     * @return 시작 시각 하한
+     */
+    public LocalDateTime earliestStartOverlapping(LocalDateTime from) {
+        return from.minus(maxDuration);
+    }
+}
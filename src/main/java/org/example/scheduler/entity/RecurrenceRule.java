@@ -0,0 +1,238 @@
+package org.example.scheduler.entity;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 반복 규칙 (iCalendar RRULE의 일부)
+ * - 형식: FREQ=DAILY|WEEKLY|MONTHLY;INTERVAL=n;BYDAY=MO,WE;UNTIL=2026-12-31T23:59;EXDATE=2025-09-01,2025-09-08
+ * - 일정 한 행에 규칙만 저장하고, 발생 시각은 조회 구간 안에서만 계산
+ * - 첫 발생(dtStart)에서 얼마나 떨어진 구간이든 산술 계산으로 바로 이동하므로 계산량은 구간 안의 발생 수에 비례
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecurrenceRule {
+    private static final int MAX_INTERVAL = 1_000;
+    private static final int MAX_EXCEPTIONS = 100;
+    private static final int MAX_LOOKAHEAD_MONTHS = 120;    // 다음 발생을 찾는 최대 기간 (10년)
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY }
+
+    private final Frequency frequency;          // 반복 단위
+    private final int interval;                 // 반복 간격 (1이면 매일/매주/매월)
+    private final Set<DayOfWeek> byDays;        // 주간 반복 요일 (비어 있으면 첫 발생 요일)
+    private final LocalDateTime until;          // 마지막 발생 시각 상한 (null이면 무기한)
+    private final Set<LocalDate> exceptions;    // 제외할 발생 날짜
+
+    /**
+     * 규칙 문자열 해석
+     *
+     * @param value 규칙 문자열
+     * @return 반복 규칙 (빈 값이면 null)
+     * @throws CustomException 형식이 올바르지 않으면 400 반환
+     */
+    public static RecurrenceRule parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDays = EnumSet.noneOf(DayOfWeek.class);
+        LocalDateTime until = null;
+        Set<LocalDate> exceptions = new TreeSet<>();
+        try {
+            for (String part : value.trim().split(";")) {
+                String[] pair = part.split("=", 2);
+                if (pair.length != 2) {
+                    throw new CustomException(ErrorCode.INVALID_RECURRENCE_RULE);
+                }
+                String v = pair[1].trim();
+                switch (pair[0].trim().toUpperCase()) {
+                    case "FREQ" -> frequency = Frequency.valueOf(v.toUpperCase());
+                    case "INTERVAL" -> interval = Integer.parseInt(v);
+                    case "BYDAY" -> {
+                        for (String day : v.split(",")) {
+                            byDays.add(toDayOfWeek(day.trim()));
+                        }
+                    }
+                    case "UNTIL" -> until = LocalDateTime.parse(v);
+                    case "EXDATE" -> {
+                        for (String date : v.split(",")) {
+                            exceptions.add(LocalDate.parse(date.trim()));
+                        }
+                    }
+                    default -> throw new CustomException(ErrorCode.INVALID_RECURRENCE_RULE);
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_RECURRENCE_RULE);
+        }
+        if (frequency == null || interval < 1 || interval > MAX_INTERVAL || exceptions.size() > MAX_EXCEPTIONS
+                || (!byDays.isEmpty() && frequency != Frequency.WEEKLY)) {
+            throw new CustomException(ErrorCode.INVALID_RECURRENCE_RULE);
+        }
+        return new RecurrenceRule(frequency, interval, Collections.unmodifiableSet(byDays), until, Collections.unmodifiableSet(exceptions));
+    }
+
+    /**
+     * 규칙 문자열 형식 확인 (요청 검증용)
+     *
+     * @param value 규칙 문자열
+     * @return 빈 값이거나 해석할 수 있으면 true
+     */
+    public static boolean isValid(String value) {
+        try {
+            parse(value);
+            return true;
+        } catch (CustomException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 특정 달에 시작하는 발생 시각 계산
+     *
+     * @param dtStart 첫 발생 시각 (일정의 startAt)
+     * @param month 계산할 달
+     * @return 발생 시작 시각 목록 (오름차순)
+     */
+    public List<LocalDateTime> occurrencesIn(LocalDateTime dtStart, YearMonth month) {
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+        if (last.isBefore(dtStart.toLocalDate()) || (until != null && first.isAfter(until.toLocalDate()))) {
+            return List.of();
+        }
+
+        LocalTime time = dtStart.toLocalTime();
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        for (LocalDate date : candidateDates(dtStart.toLocalDate(), first, last)) {
+            LocalDateTime occurrence = date.atTime(time);
+            if (!occurrence.isBefore(dtStart) && (until == null || !occurrence.isAfter(until)) && !exceptions.contains(date)) {
+                occurrences.add(occurrence);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * notBefore 이후(포함) 첫 발생 시각 계산 (알림 예약용)
+     * - 최대 MAX_LOOKAHEAD_MONTHS개월까지만 찾으며, 그 안에 발생이 없으면 끝난 규칙으로 봄
+     *
+     * @param dtStart 첫 발생 시각 (일정의 startAt)
+     * @param notBefore 기준 시각
+     * @return 발생 시작 시각 (없으면 null)
+     */
+    public LocalDateTime nextOccurrence(LocalDateTime dtStart, LocalDateTime notBefore) {
+        LocalDateTime from = notBefore.isBefore(dtStart) ? dtStart : notBefore;
+        YearMonth month = YearMonth.from(from);
+        for (int i = 0; i < MAX_LOOKAHEAD_MONTHS; i++, month = month.plusMonths(1)) {
+            if (until != null && month.atDay(1).isAfter(until.toLocalDate())) {
+                return null;
+            }
+            for (LocalDateTime occurrence : occurrencesIn(dtStart, month)) {
+                if (!occurrence.isBefore(from)) {
+                    return occurrence;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 간격을 고려한 [first, last] 안의 후보 날짜 (오름차순)
+     */
+    private List<LocalDate> candidateDates(LocalDate start, LocalDate first, LocalDate last) {
+        List<LocalDate> dates = new ArrayList<>();
+        switch (frequency) {
+            case DAILY -> {
+                long offset = Math.max(0, ChronoUnit.DAYS.between(start, first));
+                LocalDate date = start.plusDays(ceilToMultiple(offset, interval));
+                for (; !date.isAfter(last); date = date.plusDays(interval)) {
+                    dates.add(date);
+                }
+            }
+            case WEEKLY -> {
+                Set<DayOfWeek> days = byDays.isEmpty() ? EnumSet.of(start.getDayOfWeek()) : byDays;
+                LocalDate startWeek = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                LocalDate firstWeek = first.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                long weeks = Math.max(0, ChronoUnit.WEEKS.between(startWeek, firstWeek));
+                LocalDate week = startWeek.plusWeeks(ceilToMultiple(weeks, interval));
+                for (; !week.isAfter(last); week = week.plusWeeks(interval)) {
+                    for (DayOfWeek day : days) {    // EnumSet은 월요일부터 순서대로 순회
+                        LocalDate date = week.plusDays(day.getValue() - 1L);
+                        if (!date.isBefore(first) && !date.isAfter(last)) {
+                            dates.add(date);
+                        }
+                    }
+                }
+            }
+            case MONTHLY -> {
+                long months = ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(first));
+                if (months >= 0 && months % interval == 0) {
+                    YearMonth month = YearMonth.from(first);
+                    if (month.isValidDay(start.getDayOfMonth())) {  // 31일 등 없는 날짜는 건너뜀
+                        dates.add(month.atDay(start.getDayOfMonth()));
+                    }
+                }
+            }
+        }
+        return dates;
+    }
+
+    private static long ceilToMultiple(long value, int multiple) {
+        return ((value + multiple - 1) / multiple) * multiple;
+    }
+
+    private static DayOfWeek toDayOfWeek(String code) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(code.toUpperCase()) && code.length() == 2) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException(code);
+    }
+
+    /**
+     * 저장/응답용 규칙 문자열
+     */
+    @JsonValue
+    @Override
+    public String toString() {
+        StringBuilder value = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            value.append(";INTERVAL=").append(interval);
+        }
+        if (!byDays.isEmpty()) {
+            value.append(";BYDAY=").append(byDays.stream().map(day -> day.name().substring(0, 2)).collect(Collectors.joining(",")));
+        }
+        if (until != null) {
+            value.append(";UNTIL=").append(until);
+        }
+        if (!exceptions.isEmpty()) {
+            value.append(";EXDATE=").append(exceptions.stream().map(LocalDate::toString).collect(Collectors.joining(",")));
+        }
+        return value.toString();
+    }
+}
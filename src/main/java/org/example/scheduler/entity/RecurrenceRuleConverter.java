@@ -0,0 +1,20 @@
+package org.example.scheduler.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 반복 규칙을 규칙 문자열 한 컬럼으로 저장
+ */
+@Converter
+public class RecurrenceRuleConverter implements AttributeConverter<RecurrenceRule, String> {
+    @Override
+    public String convertToDatabaseColumn(RecurrenceRule rule) {
+        return (rule == null) ? null : rule.toString();
+    }
+
+    @Override
+    public RecurrenceRule convertToEntityAttribute(String value) {
+        return RecurrenceRule.parse(value);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/*
+ * 일정 알림 Entity
+ * - 일정 시작 offsetMinutes분 전에 한 번 전송 (반복 일정은 전송 후 다음 발생으로 fireAt을 옮김)
+ * - 일정이 실제로 삭제되어도 남아 있을 수 있으므로 외래 키 없이 일정 ID만 저장하고, 전송 직전에 일정 존재 여부를 확인
+ * - 전송은 claimToken/claimedUntil로 선점한 인스턴스만 처리하며, 선점 후 종료된 알림은 claimedUntil이 지나면 다시 전송
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_reminder_status_fire_at_id", columnList = "status, fireAt, id"), // 다음 구간 적재 (발송 시각 순)
+        @Index(name = "idx_reminder_schedule", columnList = "scheduleId"),                  // 일정 수정/삭제 시 알림 재예약/취소
+        @Index(name = "idx_reminder_claim_token", columnList = "claimToken"),               // 선점한 알림 조회
+        @Index(name = "idx_reminder_claimed_until", columnList = "claimedUntil"),           // 선점 후 중단된 알림 복구
+        @Index(name = "idx_reminder_finished_at", columnList = "finishedAt")                // 끝난 알림 정리
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Reminder {
+    public enum Status { PENDING, SENT, CANCELLED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminder_seq")
+    @SequenceGenerator(name = "reminder_seq", sequenceName = "reminder_seq", allocationSize = 50)
+    private Long id;    // 알림 ID (자동 생성)
+
+    @Column(nullable = false)
+    private Long scheduleId;    // 일정 ID
+
+    @Column(nullable = false)
+    private int offsetMinutes;  // 일정 시작 몇 분 전에 보낼지
+
+    @Column(nullable = false)
+    private LocalDateTime fireAt;   // 다음 전송 시각
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;      // 상태
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;       // 현재 fireAt에 대한 전송 시도 횟수
+
+    @Column(length = 36)
+    private String claimToken;  // 전송을 선점한 묶음 토큰
+
+    private LocalDateTime claimedUntil; // 선점 만료 시각 (이후에는 다른 인스턴스가 다시 선점 가능)
+
+    private LocalDateTime finishedAt;   // 전송 완료/취소/실패 시각 (보관 기간 이후 삭제)
+
+    public Reminder(Long scheduleId, int offsetMinutes, LocalDateTime fireAt) {
+        this.scheduleId = scheduleId;
+        this.offsetMinutes = offsetMinutes;
+        this.fireAt = fireAt;
+        this.status = Status.PENDING;
+    }
+
+    /*
+     * 일정 시각이 바뀌어 발송 시각을 다시 지정합니다. (선점/시도 횟수 초기화)
+     *
+     * @param fireAt 새 발송 시각
+     */
+    public void reschedule(LocalDateTime fireAt) {
+        this.fireAt = fireAt;
+        this.attempts = 0;
+        this.claimToken = null;
+        this.claimedUntil = null;
+    }
+
+    /*
+     * 알림을 취소합니다.
+     */
+    public void cancel() {
+        this.status = Status.CANCELLED;
+        this.claimToken = null;
+        this.claimedUntil = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/*
+ * 무효화된 토큰 Entity
+ * - tokenId가 있으면 해당 토큰 하나(로그아웃), 없으면 revokedAt 이전에 해당 유저에게 발급된 모든 토큰(유저 삭제)
+ * - 토큰 만료 시각(expiresAt)이 지나면 더 이상 필요 없으므로 주기적으로 삭제
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt") // 만료 항목 정리
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // 로그아웃/유저 삭제 시 한 건씩만 저장하므로 배치 INSERT 불필요
+    private Long id;
+
+    @Column(length = 16)
+    private String tokenId;     // 무효화된 토큰 ID (유저 단위 무효화면 null)
+
+    private Long userId;        // 유저 단위 무효화 대상 유저 ID
+
+    @Column(nullable = false)
+    private Instant revokedAt;  // 무효화 시각
+
+    @Column(nullable = false)
+    private Instant expiresAt;  // 기록 만료 시각
+
+    private RevokedToken(String tokenId, Long userId, Instant revokedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static RevokedToken ofToken(String tokenId, Instant expiresAt) {
+        return new RevokedToken(tokenId, null, Instant.now(), expiresAt);
+    }
+
+    public static RevokedToken ofUser(Long userId, Instant revokedAt, Instant expiresAt) {
+        return new RevokedToken(null, userId, revokedAt, expiresAt);
+    }
+}
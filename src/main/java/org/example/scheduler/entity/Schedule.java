@@ -5,22 +5,37 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 /*
  * 일정 Entity
  * - 일정에 대한 정보를 저장
  * - BaseEntity 상속을 통해 작성/수정일 자동 관리
+ * - 삭제 시 deletedAt만 기록하고 모든 조회에서 제외, 실제 삭제는 TombstoneReaperJob이 한가한 시간에 처리
+ * - 반복 일정은 규칙만 저장하며, 발생 시각은 기간 조회 시 조회 구간 안에서만 계산
+ * - 제목/내용 수정은 ScheduleRepository.updateIfOwned로 작성자/버전 확인과 함께 UPDATE 한 번에 처리
  */
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_schedule_modified_at_id", columnList = "modifiedAt, id"),            // 전체 목록 키셋 페이지네이션
+        @Index(name = "idx_schedule_user_modified_at_id", columnList = "userId, modifiedAt, id"), // 작성자별 목록 키셋 페이지네이션
+        @Index(name = "idx_schedule_deleted_at", columnList = "deletedAt"),                      // 삭제 표시된 일정 정리
+        @Index(name = "idx_schedule_user_bucket_start_at", columnList = "userId, durationBucket, startAt") // 기간 조회 (길이 구간별 시작 시각 범위)
+})
+@SQLRestriction("deleted_at is null")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Schedule extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50)
     private Long id;    // 일정 ID (자동 생성)
 
     @Setter
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId")
     private User user;     // 작성자
 
@@ -30,26 +45,52 @@ public class Schedule extends BaseEntity {
     @Column(nullable = false, length = 200)
     private String content;     // 내용
 
+    private LocalDateTime startAt;  // 시작 시각 (없으면 기간 조회에서 제외)
+
+    private LocalDateTime endAt;    // 종료 시각
+
+    @Convert(converter = RecurrenceRuleConverter.class)
+    @Column(length = 1000)
+    private RecurrenceRule recurrence;      // 반복 규칙 (없으면 한 번만 발생, startAt/endAt은 첫 발생)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private DurationBucket durationBucket;  // 일정 길이 구간 (시작/종료 시각으로 계산, 기간 조회 인덱스용)
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;  // 댓글 개수 (댓글 등록/삭제 시 단일 UPDATE로 증감, 목록 조회 시 서브쿼리 대신 사용)
+
+    private LocalDateTime deletedAt;    // 삭제 일시 (null이면 유효한 일정)
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;   // 수정 버전 (제목/내용 수정마다 1 증가, 동시 수정 감지)
+
     public Schedule(String title, String content) {
-        this.title = title;
-        this.content = content;
+        this(title, content, null, null, null);
     }
 
-    /*
-     * 일정 제목을 수정합니다.
-     *
-     * @param title 수정할 제목
-     */
-    public void updateTitle(String title) {
+    public Schedule(String title, String content, LocalDateTime startAt, LocalDateTime endAt) {
+        this(title, content, startAt, endAt, null);
+    }
+
+    public Schedule(String title, String content, LocalDateTime startAt, LocalDateTime endAt, RecurrenceRule recurrence) {
         this.title = title;
+        this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.recurrence = recurrence;
+        this.durationBucket = DurationBucket.of(startAt, endAt, recurrence);
     }
 
     /*
-     * 일정 내용을 수정합니다.
+     * 댓글과 함께 생성되는 일정의 초기 댓글 개수를 지정합니다. (일괄 가져오기용)
      *
-     * @param content 수정할 내용
+     * @param commentCount 함께 생성되는 댓글 수
      */
-    public void updateContent(String content) {
-        this.content = content;
+    public void initCommentCount(long commentCount) {
+        this.commentCount = commentCount;
     }
 }
@@ -4,21 +4,33 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 /*
  * 유저 Entity
  * - 유저에 대한 정보를 저장
  * - BaseEntity 상속을 통해 작성/수정일 자동 관리
+ * - 탈퇴 시 deletedAt만 기록하고 조회에서 제외, 일정/댓글과 함께 UserPurgeJob이 나중에 실제 삭제
  */
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_user_modified_at_id", columnList = "modifiedAt, id") // 유저 목록 키셋 페이지네이션/스트리밍 정렬
+})
+@SQLRestriction("deleted_at is null")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;    // 일정 ID (자동 생성)
 
     private String name;    // 작성자명
@@ -26,6 +38,8 @@ public class User extends BaseEntity {
     private String email;    // 이메일
 
     private String password;    // 비밀번호
+
+    private LocalDateTime deletedAt;    // 탈퇴 일시 (null이면 활성 유저)
     
     public User(String name, String email, String password) {
         this.name = name;
@@ -44,4 +58,8 @@ public class User extends BaseEntity {
     public void updatePassword(String password) {
         this.password = password;
     }
+
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
+    }
 }
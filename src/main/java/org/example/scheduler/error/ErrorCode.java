@@ -11,21 +11,42 @@ import org.springframework.http.HttpStatus;
 @AllArgsConstructor
 public enum ErrorCode {
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SYS-500", "서버 내부 오류가 발생했습니다."),
+    STREAM_SUBSCRIBERS_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "STREAM-503", "구독자가 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SYS-503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "VAL-400","유효성 검증에 실패했습니다."),
 
     PASSWORD_SAME_AS_OLD(HttpStatus.BAD_REQUEST, "AUTH-400","새 비밀번호가 기존 비밀번호와 동일합니다."),
     PASSWORD_INCORRECT(HttpStatus.UNAUTHORIZED, "AUTH-401", "비밀번호가 올바르지 않습니다."),
     FORBIDDEN_NOT_OWNER(HttpStatus.FORBIDDEN, "AUTH-403", "접근 권한이 없습니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "SYS-409", "다른 요청과 동시에 변경되었습니다. 다시 시도해주세요."),
 
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER-404", "존재하지 않는 사용자입니다."),
     DUPLICATE_USER(HttpStatus.CONFLICT, "USER-409", "이미 가입된 사용자입니다."),
+    PURGE_NOT_FOUND(HttpStatus.NOT_FOUND, "PURGE-404", "삭제 진행 정보가 없습니다."),
+
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "PAGE-400", "cursor 파라미터가 올바르지 않습니다."),
+
+    INVALID_CHANGE_TOKEN(HttpStatus.BAD_REQUEST, "CHG-400", "since 토큰이 올바르지 않습니다."),
+    CHANGE_TOKEN_EXPIRED(HttpStatus.GONE, "CHG-410", "변경 기록 보관 기간이 지난 토큰입니다. 전체 목록을 다시 조회해주세요."),
+
+    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "SEARCH-400", "검색어를 입력해주세요."),
 
     INVALID_PAGING_PARAM(HttpStatus.BAD_REQUEST, "SCH-400", "page/size 파라미터가 올바르지 않습니다. size는 최대 100까지 가능합니다."),
+    INVALID_TIME_RANGE(HttpStatus.BAD_REQUEST, "TIME-400", "from/to 파라미터가 올바르지 않습니다. to는 from 이후여야 하며 최대 366일까지 조회 가능합니다."),
+    SCHEDULE_TIME_CONFLICT(HttpStatus.CONFLICT, "TIME-409", "요청한 시간에 이미 다른 일정이 있습니다."),
+    INVALID_FREE_BUSY_USERS(HttpStatus.BAD_REQUEST, "FB-400", "userIds는 최대 20명까지 입력 가능합니다."),
+    FREE_BUSY_TOO_MANY_SCHEDULES(HttpStatus.BAD_REQUEST, "FB-LIMIT-400", "조회 기간 안의 일정(반복 일정은 발생)이 너무 많습니다. 기간을 줄여서 조회해주세요."),
+    INVALID_RECURRENCE_RULE(HttpStatus.BAD_REQUEST, "RRULE-400", "반복 규칙 형식이 올바르지 않습니다."),
     SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, "SCH-404", "존재하지 않는 일정입니다."),
+    SCHEDULE_VERSION_CONFLICT(HttpStatus.CONFLICT, "SCH-409", "다른 요청이 먼저 일정을 수정했습니다. 다시 조회한 뒤 수정해주세요."),
+
+    INVALID_REMINDER(HttpStatus.BAD_REQUEST, "RMD-400", "알림을 등록할 수 없습니다."),
+    REMINDER_NOT_FOUND(HttpStatus.NOT_FOUND, "RMD-404", "존재하지 않는 알림입니다."),
 
     COMMENT_SCHEDULE_MISMATCH(HttpStatus.BAD_REQUEST, "CMT-400", "댓글이 요청한 일정에 속하지 않습니다."),
-    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CMT-404", "존재하지 않는 댓글입니다.");
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CMT-404", "존재하지 않는 댓글입니다."),
+    COMMENT_VERSION_CONFLICT(HttpStatus.CONFLICT, "CMT-409", "다른 요청이 먼저 댓글을 수정했습니다. 다시 조회한 뒤 수정해주세요.");
 
 
     private final HttpStatus status;
@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -41,4 +42,14 @@ public class GlobalExceptionHandler {
         ErrorResponse body = ErrorResponse.of(code.getStatus(), code.getCode(), message, req.getRequestURI());
         return ResponseEntity.status(code.getStatus()).body(body);
     }
+
+    /**
+     * 엔티티를 읽은 뒤 저장하기 전에 다른 요청이 같은 행을 수정한 경우 (@Version 불일치)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex, HttpServletRequest req) {
+        ErrorCode code = ErrorCode.CONCURRENT_MODIFICATION;
+        ErrorResponse body = ErrorResponse.of(code.getStatus(), code.getCode(), code.getMessage(), req.getRequestURI());
+        return ResponseEntity.status(code.getStatus()).body(body);
+    }
 }
@@ -0,0 +1,18 @@
+package org.example.scheduler.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글이 등록/수정/삭제되었을 때 발행하는 이벤트
+ * - 리스너는 트랜잭션 커밋 이후에 처리 (변경 기록만 같은 트랜잭션 안에서 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;        // 변경 유형
+    private final Long scheduleId;  // 댓글이 달린 일정 ID
+    private final Long commentId;   // 댓글 ID
+}
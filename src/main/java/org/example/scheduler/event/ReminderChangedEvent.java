@@ -0,0 +1,20 @@
+package org.example.scheduler.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림이 등록/재예약/취소되었을 때 발행하는 이벤트
+ * - 리스너(ReminderDispatcher)는 트랜잭션 커밋 이후에 타이밍 휠에 반영
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderChangedEvent {
+    public enum Type { SCHEDULED, CANCELLED }
+
+    private final Type type;            // 변경 유형
+    private final Long reminderId;      // 알림 ID
+    private final LocalDateTime fireAt; // 발송 시각 (취소면 null)
+}
@@ -0,0 +1,17 @@
+package org.example.scheduler.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정이 생성/수정/삭제되었을 때 발행하는 이벤트
+ * - 리스너는 트랜잭션 커밋 이후에 처리 (변경 기록만 같은 트랜잭션 안에서 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleChangedEvent {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;        // 변경 유형
+    private final Long scheduleId;  // 일정 ID
+}
@@ -0,0 +1,19 @@
+package org.example.scheduler.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 삭제된 유저의 일정/댓글 일부(한 묶음)가 삭제되었을 때 발행하는 이벤트
+ * - 리스너는 트랜잭션 커밋 이후에 처리 (변경 기록만 같은 트랜잭션 안에서 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class UserDataPurgedEvent {
+    private final Long userId;                      // 삭제된 유저 ID
+    private final List<Long> scheduleIds;           // 이번 묶음에서 삭제된 유저의 일정 ID
+    private final List<Long> commentedScheduleIds;  // 이번 묶음에서 유저의 댓글이 삭제된 (다른 유저의) 일정 ID
+    private final List<Long> commentIds;            // 이번 묶음에서 삭제된 유저의 댓글 ID
+}
@@ -0,0 +1,15 @@
+package org.example.scheduler.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저가 탈퇴(삭제 표시)되었을 때 발행하는 이벤트
+ * - 리스너는 트랜잭션 커밋 이후에 처리
+ * - 일정/댓글은 이후 UserPurgeJob이 나누어 삭제하며 UserDataPurgedEvent로 알림
+ */
+@Getter
+@AllArgsConstructor
+public class UserDeletedEvent {
+    private final Long userId;  // 삭제된 유저 ID
+}
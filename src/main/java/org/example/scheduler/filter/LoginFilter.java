@@ -4,18 +4,26 @@ import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
+import org.example.scheduler.service.AuthService;
 import org.springframework.util.PatternMatchUtils;
 
 import java.io.IOException;
 
 /**
  * 로그인 여부에 따라 접근을 제어하는 필터
- * - 화이트리스트 및 세션에 userId가 존재하면 통과
+ * - 화이트리스트 및 세션(또는 토큰)으로 확인한 userId가 존재하면 통과
+ * - 확인한 userId는 요청 속성(userId)에 담아 컨트롤러에서 인증 방식과 무관하게 사용
  * - 실패 시 401 반환
  */
 public class LoginFilter implements Filter {
     private static final String[] WHITE_LIST = {"/", "/signup", "/login", "/logout"};
 
+    private final AuthService authService;
+
+    public LoginFilter(AuthService authService) {
+        this.authService = authService;
+    }
+
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
         HttpServletRequest httpRequest = (HttpServletRequest) servletRequest;
@@ -27,10 +35,10 @@ public class LoginFilter implements Filter {
             return;
         }
 
-        HttpSession httpSession = httpRequest.getSession(false);
-        Long userId = (httpSession == null) ? null : (Long) httpSession.getAttribute("userId");
+        Long userId = authService.resolveUserId(httpRequest);
 
         if(userId == null){
+            HttpSession httpSession = httpRequest.getSession(false);
             if(httpSession != null){
                 httpSession.invalidate();
             }
@@ -41,6 +49,7 @@ public class LoginFilter implements Filter {
             return;
         }
 
+        httpRequest.setAttribute(AuthService.USER_ID_ATTRIBUTE, userId);
         filterChain.doFilter(servletRequest, servletResponse);
     }
 
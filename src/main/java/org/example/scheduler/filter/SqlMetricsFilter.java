@@ -0,0 +1,49 @@
+package org.example.scheduler.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.scheduler.metrics.HandlerTags;
+import org.example.scheduler.metrics.RequestSqlStats;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 실행 수와 실행 시간을 컨트롤러 메서드 태그로 기록하는 필터
+ * - http.server.requests.sql.statements: 요청당 SQL 수 분포 (N+1 감지)
+ * - http.server.requests.sql.time: 요청당 SQL 실행 시간 합
+ */
+public class SqlMetricsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    public SqlMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestSqlStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats stats = RequestSqlStats.end();
+            String handler = HandlerTags.handler(request);
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                    .description("SQL statements executed per request")
+                    .tag(HandlerTags.HANDLER, handler)
+                    .register(meterRegistry)
+                    .record(stats.getStatementCount());
+            Timer.builder("http.server.requests.sql.time")
+                    .description("Total SQL execution time per request")
+                    .tag(HandlerTags.HANDLER, handler)
+                    .register(meterRegistry)
+                    .record(stats.getExecutionNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
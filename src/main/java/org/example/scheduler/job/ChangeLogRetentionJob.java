@@ -0,0 +1,41 @@
+package org.example.scheduler.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.repository.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 변경 기록 정리 작업
+ * - 짧은 트랜잭션으로 나누어 삭제 (이 기간보다 오래된 토큰은 410으로 전체 재동기화 요청)
+ */
+@Slf4j
+@Component
+public class ChangeLogRetentionJob {
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final Duration retention;
+
+    public ChangeLogRetentionJob(ChangeLogRepository changeLogRepository,
+                                 @Value("${scheduler.change-feed.retention:7d}") Duration retention) {
+        this.changeLogRepository = changeLogRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${scheduler.change-feed.cleanup-cron:0 15 4 * * *}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = changeLogRepository.deleteOlderThan(before, CHUNK_SIZE);
+            deleted += chunk;
+        } while (chunk == CHUNK_SIZE);
+        log.info("변경 기록 정리 완료: {}건 삭제", deleted);
+    }
+}
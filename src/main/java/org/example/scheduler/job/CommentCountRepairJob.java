@@ -0,0 +1,35 @@
+package org.example.scheduler.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정의 댓글 개수(commentCount) 보정 작업
+ * - 댓글 등록/삭제 시 증감으로 유지되는 값이 실제 댓글 수와 어긋난 경우를 주기적으로 바로잡음
+ * - 일정 ID 구간 단위로 나누어 짧은 트랜잭션으로 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountRepairJob {
+    private static final long CHUNK_SIZE = 1_000;
+
+    private final ScheduleRepository scheduleRepository;
+
+    @Scheduled(cron = "${scheduler.comment-count-repair.cron:0 30 4 * * *}")
+    public void repair() {
+        Long maxId = scheduleRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        long recounted = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            recounted += scheduleRepository.recountCommentCount(fromId, fromId + CHUNK_SIZE - 1);
+        }
+        log.info("댓글 개수 보정 완료: 일정 {}건 재계산 (최대 ID {})", recounted, maxId);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.scheduler.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.repository.ReminderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 끝난(전송/취소/실패) 알림 정리 작업
+ * - 짧은 트랜잭션으로 나누어 삭제
+ */
+@Slf4j
+@Component
+public class ReminderRetentionJob {
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final ReminderRepository reminderRepository;
+    private final Duration retention;
+
+    public ReminderRetentionJob(ReminderRepository reminderRepository,
+                                @Value("${scheduler.reminder.retention:7d}") Duration retention) {
+        this.reminderRepository = reminderRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${scheduler.reminder.cleanup-cron:0 45 4 * * *}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = reminderRepository.deleteFinishedBefore(before, CHUNK_SIZE);
+            deleted += chunk;
+        } while (chunk == CHUNK_SIZE);
+        log.info("끝난 알림 정리 완료: {}건 삭제", deleted);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.scheduler.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 삭제 표시된 일정/댓글을 실제로 삭제하는 정리 작업
+ * - 사용량이 적은 시간대에 실행하며, 작은 묶음 단위로 삭제하고 묶음 사이에 쉬어 서비스 쿼리와 경합을 줄임
+ * - 최대 실행 시간을 넘으면 중단하고 남은 항목은 다음 실행에서 이어서 처리
+ * - 실행 중에는 스케줄러 스레드 하나를 점유하므로 spring.task.scheduling.pool.size를 @Scheduled 메서드 수만큼 둠
+ */
+@Slf4j
+@Component
+public class TombstoneReaperJob {
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final Pageable batch;
+    private final long pauseMillis;
+    private final Duration maxDuration;
+
+    public TombstoneReaperJob(ScheduleRepository scheduleRepository,
+                              CommentRepository commentRepository,
+                              @Value("${scheduler.reaper.batch-size:500}") int batchSize,
+                              @Value("${scheduler.reaper.pause-millis:100}") long pauseMillis,
+                              @Value("${scheduler.reaper.max-duration:1h}") Duration maxDuration) {
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.batch = PageRequest.of(0, batchSize);
+        this.pauseMillis = pauseMillis;
+        this.maxDuration = maxDuration;
+    }
+
+    @Scheduled(cron = "${scheduler.reaper.cron:0 0 3 * * *}")
+    public void reap() {
+        Instant deadline = Instant.now().plus(maxDuration);
+
+        // 댓글이 남아 있는 일정은 삭제할 수 없으므로 댓글 먼저 정리
+        long comments = reap(commentRepository::findTombstonedIds, commentRepository::purgeByIdIn, deadline);
+        long schedules = reap(scheduleRepository::findTombstonedIds, scheduleRepository::purgeByIdIn, deadline);
+        log.info("삭제 표시 데이터 정리 완료: 일정 {}건, 댓글 {}건", schedules, comments);
+    }
+
+    private long reap(Function<Pageable, List<Long>> finder, ToIntFunction<List<Long>> purger, Instant deadline) {
+        long purged = 0;
+        while (Instant.now().isBefore(deadline)) {
+            List<Long> ids = finder.apply(batch);
+            if (ids.isEmpty()) {
+                break;
+            }
+            purged += purger.applyAsInt(ids);
+
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.scheduler.job;
+
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.user.UserPurgeStatusResponseDto;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탈퇴 유저 데이터 삭제 진행 상태 조회용 actuator 엔드포인트 (관리 포트의 GET /actuator/userpurges/{userId})
+ * - 다른 유저의 삭제 건수/시각/실패 사유가 담기므로 서비스 포트에는 노출하지 않음
+ */
+@Component
+@Endpoint(id = "userpurges")
+@RequiredArgsConstructor
+public class UserPurgeEndpoint {
+    private final UserPurgeJob userPurgeJob;
+
+    /**
+     * 삭제 진행 상태 조회
+     *
+     * @param userId 탈퇴 유저 ID
+     * @return 진행 상태 (없으면 null → 404)
+     */
+    @ReadOperation
+    public UserPurgeStatusResponseDto status(@Selector Long userId) {
+        return userPurgeJob.findStatus(userId);
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.scheduler.job;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.dto.user.UserPurgeStatusResponseDto;
+import org.example.scheduler.dto.user.UserPurgeStatusResponseDto.State;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.example.scheduler.event.UserDataPurgedEvent;
+import org.example.scheduler.event.UserDeletedEvent;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.repository.ReminderRepository;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.example.scheduler.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 탈퇴 유저의 댓글, 일정, 유저 행을 백그라운드에서 나누어 삭제하는 작업
+ * - 묶음(batch-size건)마다 별도 트랜잭션에서 ID 조회 후 DELETE ... WHERE id IN (...) 한 번으로 삭제하여
+ *   긴 트랜잭션과 엔티티 단위 삭제 없이 처리
+ * - 진행 상태는 메모리에 보관하고, 중단/실패한 작업은 주기적으로 탈퇴 유저를 확인해 이어서 처리
+ */
+@Slf4j
+@Component
+public class UserPurgeJob {
+    private static final Duration STATUS_RETENTION = Duration.ofHours(1); // 종료된 진행 상태 보관 기간
+
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final ReminderRepository reminderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Pageable batch;
+    private final ExecutorService purgeExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("user-purge-"));
+    private final Map<Long, Progress> progresses = new ConcurrentHashMap<>();
+
+    public UserPurgeJob(ScheduleRepository scheduleRepository,
+                        CommentRepository commentRepository,
+                        UserRepository userRepository,
+                        ReminderRepository reminderRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${scheduler.purge.batch-size:1000}") int batchSize) {
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.reminderRepository = reminderRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batch = PageRequest.of(0, batchSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purgeExecutor.shutdownNow(); // 남은 작업은 다음 실행 시 resumePending에서 이어서 처리
+    }
+
+    /**
+     * 유저 탈퇴가 커밋되면 삭제 작업 시작
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        submit(event.getUserId());
+    }
+
+    /**
+     * 완료되지 않은 탈퇴 유저의 삭제 작업을 다시 시작하고, 오래된 진행 상태 정리
+     */
+    @Scheduled(fixedDelayString = "${scheduler.purge.resume-millis:60000}")
+    public void resumePending() {
+        for (Long userId : userRepository.findDeletedIds()) {
+            submit(userId);
+        }
+
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(STATUS_RETENTION);
+        progresses.values().removeIf(progress -> progress.finishedAt != null && progress.finishedAt.isBefore(expiredBefore));
+    }
+
+    /**
+     * 삭제 진행 상태 조회
+     *
+     * @param userId 탈퇴 유저 ID
+     * @return 진행 상태
+     * @throws CustomException 진행 상태가 없으면 404 반환
+     */
+    public UserPurgeStatusResponseDto getStatus(Long userId) {
+        UserPurgeStatusResponseDto status = findStatus(userId);
+        if (status == null) {
+            throw new CustomException(ErrorCode.PURGE_NOT_FOUND);
+        }
+        return status;
+    }
+
+    /**
+     * 삭제 진행 상태 조회 (관리 엔드포인트용)
+     *
+     * @param userId 탈퇴 유저 ID
+     * @return 진행 상태 (없으면 null)
+     */
+    public UserPurgeStatusResponseDto findStatus(Long userId) {
+        Progress progress = progresses.get(userId);
+        return (progress == null) ? null : progress.toResponse();
+    }
+
+    private void submit(Long userId) {
+        Progress created = new Progress(userId);
+        Progress current = progresses.compute(userId,
+                (id, existing) -> (existing != null && existing.finishedAt == null) ? existing : created);
+        if (current == created) {
+            purgeExecutor.submit(() -> purge(created));
+        }
+    }
+
+    private void purge(Progress progress) {
+        Long userId = progress.userId;
+        progress.start();
+        try {
+            // 1. 유저가 남긴 댓글: 달린 일정의 댓글 개수를 보정한 뒤 삭제
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> purgeCommentsOfUser(progress)))) {
+                // 남은 댓글이 없을 때까지 반복
+            }
+
+            // 2. 유저의 일정: 달린 댓글을 먼저 나누어 삭제한 뒤 일정 삭제
+            List<Long> scheduleIds;
+            while (!(scheduleIds = scheduleRepository.findIdsByUserId(userId, batch)).isEmpty()) {
+                List<Long> targetIds = scheduleIds;
+                while (Boolean.TRUE.equals(transactionTemplate.execute(status -> purgeCommentsOfSchedules(progress, targetIds)))) {
+                    // 남은 댓글이 없을 때까지 반복
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    reminderRepository.purgeByScheduleIdIn(targetIds);   // 휠에 남은 알림은 선점 시 일정이 없어 건너뜀
+                    scheduleRepository.purgeByIdIn(targetIds);
+                    eventPublisher.publishEvent(new UserDataPurgedEvent(userId, targetIds, List.of(), List.of()));
+                });
+                progress.deletedSchedules.addAndGet(targetIds.size());
+            }
+
+            // 3. 유저 행 삭제
+            userRepository.deleteDeletedById(userId);
+            progress.finish(State.COMPLETED, null);
+            log.info("탈퇴 유저 {} 삭제 완료: 일정 {}건, 댓글 {}건", userId, progress.deletedSchedules.get(), progress.deletedComments.get());
+        } catch (RuntimeException e) {
+            progress.finish(State.FAILED, e.getMessage());
+            log.warn("탈퇴 유저 {} 삭제 실패 (다음 주기에 재시도)", userId, e);
+        }
+    }
+
+    private boolean purgeCommentsOfUser(Progress progress) {
+        List<Long> commentIds = commentRepository.findIdsByUserId(progress.userId, batch);
+        if (commentIds.isEmpty()) {
+            return false;
+        }
+        List<Long> commentedScheduleIds = commentRepository.findScheduleIdsByIdIn(commentIds);
+        scheduleRepository.decreaseCommentCountByCommentIds(commentIds);
+        commentRepository.purgeByIdIn(commentIds);
+        eventPublisher.publishEvent(new UserDataPurgedEvent(progress.userId, List.of(), commentedScheduleIds, commentIds));
+        progress.deletedComments.addAndGet(commentIds.size());
+        return true;
+    }
+
+    private boolean purgeCommentsOfSchedules(Progress progress, List<Long> scheduleIds) {
+        List<Long> commentIds = commentRepository.findIdsByScheduleIdIn(scheduleIds, batch);
+        if (commentIds.isEmpty()) {
+            return false;
+        }
+        // 일정 자체가 삭제되므로 댓글 개수 보정은 불필요
+        commentRepository.purgeByIdIn(commentIds);
+        progress.deletedComments.addAndGet(commentIds.size());
+        return true;
+    }
+
+    /**
+     * 유저 한 명의 삭제 진행 상태
+     */
+    private static class Progress {
+        private final Long userId;
+        private final AtomicLong deletedSchedules = new AtomicLong();
+        private final AtomicLong deletedComments = new AtomicLong();
+        private volatile State state = State.PENDING;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String message;
+
+        private Progress(Long userId) {
+            this.userId = userId;
+        }
+
+        private void start() {
+            this.startedAt = LocalDateTime.now();
+            this.state = State.RUNNING;
+        }
+
+        private void finish(State state, String message) {
+            this.message = message;
+            this.state = state;
+            this.finishedAt = LocalDateTime.now();
+        }
+
+        private UserPurgeStatusResponseDto toResponse() {
+            return new UserPurgeStatusResponseDto(userId, state, deletedSchedules.get(), deletedComments.get(), startedAt, finishedAt, message);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.scheduler.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * http.server.requests 지표에 컨트롤러 메서드 태그(handler) 추가
+ * - URI 템플릿만으로는 같은 경로의 다른 메서드(params로 나뉜 목록 조회 등)를 구분할 수 없으므로 메서드별로 나눠 집계
+ */
+@Component
+public class HandlerObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+                .and(KeyValue.of(HandlerTags.HANDLER, HandlerTags.handler(context.getCarrier())));
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.scheduler.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청을 처리한 컨트롤러 메서드 이름 (지표 태그용)
+ */
+public final class HandlerTags {
+    public static final String HANDLER = "handler";
+    private static final String NONE = "none";
+
+    private HandlerTags() {
+    }
+
+    /**
+     * 컨트롤러 메서드 이름 조회 (예: ScheduleController.getSchedule)
+     *
+     * @param request 처리가 끝난 요청
+     * @return 컨트롤러 메서드 이름 (매핑된 핸들러가 없으면 none)
+     */
+    public static String handler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return NONE;
+    }
+}
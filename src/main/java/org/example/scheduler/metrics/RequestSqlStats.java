@@ -0,0 +1,55 @@
+package org.example.scheduler.metrics;
+
+/**
+ * 요청 한 건에서 실행한 SQL 수와 실행 시간 (요청 스레드에 보관)
+ * - SqlMetricsFilter가 요청 시작 시 만들고, SqlStatementListener가 SQL 실행마다 누적
+ * - 요청 밖(배치 작업, 알림 전송 등)에서 실행한 SQL은 집계하지 않음
+ */
+public final class RequestSqlStats {
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private long statementCount;
+    private long executionNanos;
+
+    private RequestSqlStats() {
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작
+     */
+    public static void begin() {
+        CURRENT.set(new RequestSqlStats());
+    }
+
+    /**
+     * 현재 스레드의 집계 종료
+     *
+     * @return 집계 결과 (시작하지 않았으면 null)
+     */
+    public static RequestSqlStats end() {
+        RequestSqlStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * SQL 한 건 (또는 배치 한 번) 실행 기록
+     *
+     * @param elapsedNanos 실행 시간
+     */
+    static void record(long elapsedNanos) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statementCount++;
+            stats.executionNanos += elapsedNanos;
+        }
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.scheduler.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.cache.RecurrenceExpansionCache;
+import org.example.scheduler.cache.ScheduleCountCache;
+import org.example.scheduler.cache.ScheduleDetailCache;
+import org.example.scheduler.dto.stats.CacheStatsResponseDto;
+import org.example.scheduler.reminder.ReminderDispatcher;
+import org.example.scheduler.stream.CommentStreamHub;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 캐시/댓글 스트림/알림 전송기의 운영 통계를 Prometheus 지표로 노출 (관리 포트에서만 조회)
+ * - 값은 수집할 때마다 각 컴포넌트의 stats()에서 읽으므로 별도로 누적하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerMetricsBinder implements MeterBinder {
+    private final ScheduleDetailCache scheduleDetailCache;
+    private final ScheduleCountCache scheduleCountCache;
+    private final RecurrenceExpansionCache recurrenceExpansionCache;
+    private final CommentStreamHub commentStreamHub;
+    private final ReminderDispatcher reminderDispatcher;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCache(registry, scheduleDetailCache, ScheduleDetailCache::stats);
+        bindCache(registry, scheduleCountCache, ScheduleCountCache::stats);
+        bindCache(registry, recurrenceExpansionCache, RecurrenceExpansionCache::stats);
+
+        Gauge.builder("comment.stream.subscribers", commentStreamHub, hub -> hub.stats().getSubscriberCount())
+                .register(registry);
+        FunctionCounter.builder("comment.stream.sent", commentStreamHub, hub -> hub.stats().getSentCount())
+                .register(registry);
+        FunctionCounter.builder("comment.stream.evicted", commentStreamHub, hub -> hub.stats().getEvictedCount())
+                .register(registry);
+
+        Gauge.builder("reminder.scheduled", reminderDispatcher, dispatcher -> dispatcher.stats().getScheduledCount())
+                .register(registry);
+        bindReminderCounter(registry, "delivered", dispatcher -> dispatcher.stats().getDeliveredCount());
+        bindReminderCounter(registry, "retried", dispatcher -> dispatcher.stats().getRetriedCount());
+        bindReminderCounter(registry, "failed", dispatcher -> dispatcher.stats().getFailedCount());
+        bindReminderCounter(registry, "skipped", dispatcher -> dispatcher.stats().getSkippedCount());
+        Gauge.builder("reminder.lag.max", reminderDispatcher, dispatcher -> dispatcher.stats().getMaxLagMillis())
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    // 지표는 대상 객체를 약한 참조로 보관하므로 스프링 빈인 캐시 자체를 넘김
+    private static <T> void bindCache(MeterRegistry registry, T cache, Function<T, CacheStatsResponseDto> stats) {
+        String name = stats.apply(cache).getName();
+        Gauge.builder("scheduler.cache.size", cache, c -> stats.apply(c).getEstimatedSize())
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("scheduler.cache.requests", cache, c -> stats.apply(c).getHitCount())
+                .tag("cache", name).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("scheduler.cache.requests", cache, c -> stats.apply(c).getMissCount())
+                .tag("cache", name).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("scheduler.cache.evictions", cache, c -> stats.apply(c).getEvictionCount())
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private void bindReminderCounter(MeterRegistry registry, String result, ToDoubleFunction<ReminderDispatcher> count) {
+        FunctionCounter.builder("reminder.deliveries", reminderDispatcher, count)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.scheduler.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 실행 시간을 요청별 SQL 통계에 누적
+ * - hibernate.session.events.auto 설정으로 세션마다 새로 생성되므로 시작 시각을 필드에 보관해도 됨
+ * - 배치 실행은 묶음 하나를 한 건으로 셈 (실제 DB 왕복 수)
+ */
+public class SqlStatementListener implements SessionEventListener {
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSqlStats.record(System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSqlStats.record(System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.scheduler.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.dto.reminder.ReminderDeliveryDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림을 로그로만 남기는 전송 대상 (기본값, 개발/테스트용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scheduler.reminder.sink", havingValue = "log", matchIfMissing = true)
+public class LogReminderSink implements ReminderSink {
+    @Override
+    public void deliver(ReminderDeliveryDto delivery) {
+        log.info("일정 알림: 유저 {} 일정 {} \"{}\" {} 시작 ({}분 전)", delivery.getUserId(), delivery.getScheduleId(),
+                delivery.getTitle(), delivery.getOccurrenceStartAt(), delivery.getOffsetMinutes());
+    }
+}
@@ -0,0 +1,284 @@
+package org.example.scheduler.reminder;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.dto.reminder.ReminderDeliveryDto;
+import org.example.scheduler.dto.reminder.ReminderResponseDto;
+import org.example.scheduler.dto.stats.ReminderStatsResponseDto;
+import org.example.scheduler.event.ReminderChangedEvent;
+import org.example.scheduler.repository.ReminderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일정 알림을 발송 시각에 전송하는 프로세스 내 전송기
+ * - DB에서는 window 안에 발송될 대기 알림만 주기적으로 읽어 타이밍 휠에 올리고, 휠이 틱마다 만료된 알림을 꺼냄
+ * - 꺼낸 알림은 batch-size건씩 UPDATE 한 번으로 선점한 뒤 전송하므로 여러 인스턴스가 같은 알림을 함께 전송하지 않음
+ * - 한 건씩 보내기 직전에 선점을 lease만큼 연장하고 보낸 즉시 완료 처리하므로, 묶음 전송이 lease보다 길어져도 중복 전송되지 않음
+ * - 등록/재예약/취소는 커밋 후 이벤트로 휠에 바로 반영 (O(1)), 구간 밖의 알림은 다음 적재 때 올라감
+ * - 재시작하면 지난 발송 시각의 대기 알림까지 처음부터 다시 적재하고, 선점 후 끊긴 알림은 선점 만료 후 다시 전송
+ */
+@Slf4j
+@Component
+public class ReminderDispatcher {
+    private static final int LOAD_PAGE_SIZE = 5_000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ReminderRepository reminderRepository;
+    private final ReminderSink reminderSink;
+    private final long tickMillis;
+    private final Duration window;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final TimingWheel wheel;
+    private final ScheduledExecutorService tickExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("reminder-tick-"));
+    private final ExecutorService deliveryExecutor;
+
+    private volatile LocalDateTime loadedUntil;     // 이 시각 이전 알림까지 휠에 적재됨 (null이면 적재 전)
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder totalLagMillis = new LongAdder();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    public ReminderDispatcher(ReminderRepository reminderRepository,
+                              ReminderSink reminderSink,
+                              @Value("${scheduler.reminder.tick-millis:100}") long tickMillis,
+                              @Value("${scheduler.reminder.window:10m}") Duration window,
+                              @Value("${scheduler.reminder.batch-size:200}") int batchSize,
+                              @Value("${scheduler.reminder.delivery-threads:4}") int deliveryThreads,
+                              @Value("${scheduler.reminder.lease:1m}") Duration lease,
+                              @Value("${scheduler.reminder.max-attempts:3}") int maxAttempts,
+                              @Value("${scheduler.reminder.retry-delay:30s}") Duration retryDelay) {
+        this.reminderRepository = reminderRepository;
+        this.reminderSink = reminderSink;
+        this.tickMillis = tickMillis;
+        this.window = window;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.wheel = new TimingWheel(tickMillis, System.currentTimeMillis());
+        this.deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, new CustomizableThreadFactory("reminder-delivery-"));
+
+        // 연장한 선점은 알림 한 건 전송 동안 유지되어야 함
+        Duration maxDeliveryTime = reminderSink.maxDeliveryTime();
+        if (lease.compareTo(maxDeliveryTime) <= 0) {
+            throw new IllegalStateException("scheduler.reminder.lease(" + lease + ")는 알림 한 건의 최대 전송 시간(" + maxDeliveryTime + ")보다 길어야 합니다.");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        tickExecutor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tickExecutor.shutdownNow();
+        deliveryExecutor.shutdown(); // 전송 중 종료된 알림은 선점 만료 후 다른 인스턴스나 재시작 후 다시 전송
+    }
+
+    /**
+     * 다음 구간의 대기 알림을 휠에 적재하고, 선점이 만료된 알림 복구
+     * - 첫 실행(재시작 직후)은 지난 발송 시각의 알림까지 모두 적재
+     */
+    @Scheduled(fixedDelayString = "${scheduler.reminder.load-millis:60000}")
+    public synchronized void loadWindow() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = (loadedUntil == null) ? EPOCH : loadedUntil;
+        LocalDateTime until = now.plus(window);
+        loadedUntil = until;    // 먼저 올려 두어 적재 중에 커밋된 알림은 이벤트로 휠에 등록
+
+        LocalDateTime afterFireAt = from;
+        long afterId = 0;
+        int loaded = 0;
+        List<ReminderResponseDto> page;
+        do {
+            page = reminderRepository.findPendingBefore(afterFireAt, afterId, until, PageRequest.of(0, LOAD_PAGE_SIZE));
+            synchronized (wheel) {
+                page.forEach(reminder -> wheel.schedule(reminder.getId(), toMillis(reminder.getFireAt())));
+            }
+            if (!page.isEmpty()) {
+                ReminderResponseDto last = page.get(page.size() - 1);
+                afterFireAt = last.getFireAt();
+                afterId = last.getId();
+                loaded += page.size();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+
+        List<ReminderResponseDto> expired = reminderRepository.findExpiredClaims(now, PageRequest.of(0, LOAD_PAGE_SIZE));
+        long nowMillis = System.currentTimeMillis();
+        synchronized (wheel) {
+            expired.forEach(reminder -> wheel.schedule(reminder.getId(), nowMillis));
+        }
+        if (loaded > 0 || !expired.isEmpty()) {
+            log.debug("알림 적재: {}건 (~{}), 선점 만료 복구 {}건", loaded, until, expired.size());
+        }
+    }
+
+    /**
+     * 알림 등록/재예약/취소가 커밋되면 휠에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReminderChanged(ReminderChangedEvent event) {
+        if (event.getType() == ReminderChangedEvent.Type.SCHEDULED) {
+            scheduleIfLoaded(event.getReminderId(), event.getFireAt());
+        } else {
+            synchronized (wheel) {
+                wheel.cancel(event.getReminderId());
+            }
+        }
+    }
+
+    /**
+     * 전송기 통계 조회
+     *
+     * @return 휠 크기, 전송/재시도/실패/건너뜀 수, 전송 지연
+     */
+    public ReminderStatsResponseDto stats() {
+        int scheduled;
+        synchronized (wheel) {
+            scheduled = wheel.size();
+        }
+        long delivered = deliveredCount.sum();
+        double averageLag = (delivered == 0) ? 0 : (double) totalLagMillis.sum() / delivered;
+        return new ReminderStatsResponseDto(scheduled, loadedUntil, delivered, retriedCount.sum(), failedCount.sum(),
+                skippedCount.sum(), averageLag, maxLagMillis.get());
+    }
+
+    /**
+     * 틱마다 만료된 알림을 꺼내 batch-size건씩 전송 스레드에 넘김
+     */
+    private void tick() {
+        try {
+            List<Long> due = new ArrayList<>();
+            synchronized (wheel) {
+                wheel.advanceTo(System.currentTimeMillis(), due::add);
+            }
+            for (int i = 0; i < due.size(); i += batchSize) {
+                List<Long> batch = List.copyOf(due.subList(i, Math.min(i + batchSize, due.size())));
+                deliveryExecutor.execute(() -> deliver(batch));
+            }
+        } catch (RuntimeException e) {
+            log.warn("알림 틱 처리 실패", e); // 예외가 나가면 이후 틱이 실행되지 않음
+        }
+    }
+
+    /**
+     * 알림 묶음을 선점한 뒤 전송하고 결과 반영
+     */
+    private void deliver(List<Long> reminderIds) {
+        String claimToken = UUID.randomUUID().toString();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int claimed = reminderRepository.claim(reminderIds, claimToken, now.plus(Duration.ofMillis(tickMillis)), now, now.plus(lease));
+            skippedCount.add(reminderIds.size() - claimed);
+            if (claimed == 0) {
+                return;
+            }
+
+            for (ReminderDeliveryDto delivery : reminderRepository.findDeliveriesByClaimToken(claimToken)) {
+                if (reminderRepository.renewLease(delivery.getReminderId(), claimToken, LocalDateTime.now().plus(lease)) == 0) {
+                    skippedCount.increment();   // 앞선 전송이 길어져 선점이 만료된 사이 다른 곳에서 다시 선점함
+                    continue;
+                }
+                try {
+                    reminderSink.deliver(delivery);
+                } catch (RuntimeException e) {
+                    handleFailure(delivery, claimToken, e);
+                    continue;
+                }
+                recordDelivered(delivery);
+                // 묶음 끝까지 미루지 않고 바로 완료 처리 (그 사이 선점이 만료되면 다시 전송됨)
+                if (delivery.getRecurrence() == null || !advance(delivery, claimToken)) {
+                    reminderRepository.markSent(List.of(delivery.getReminderId()), claimToken, LocalDateTime.now());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("알림 전송 처리 실패 (선점 만료 후 다시 전송): {}", reminderIds.size(), e);
+        }
+    }
+
+    /**
+     * 반복 일정의 알림을 다음 발생으로 옮김 (지연되어 이미 지난 발생은 건너뜀)
+     *
+     * @return 다음 발생이 없으면 false
+     */
+    private boolean advance(ReminderDeliveryDto delivery, String claimToken) {
+        LocalDateTime notBefore = delivery.getOccurrenceStartAt().plusSeconds(1);
+        LocalDateTime earliest = LocalDateTime.now().plusMinutes(delivery.getOffsetMinutes());
+        LocalDateTime next = delivery.getRecurrence().nextOccurrence(delivery.getStartAt(), notBefore.isAfter(earliest) ? notBefore : earliest);
+        if (next == null) {
+            return false;
+        }
+        LocalDateTime fireAt = next.minusMinutes(delivery.getOffsetMinutes());
+        if (reminderRepository.advance(delivery.getReminderId(), claimToken, fireAt) > 0) {
+            scheduleIfLoaded(delivery.getReminderId(), fireAt);
+        }
+        return true;
+    }
+
+    private void handleFailure(ReminderDeliveryDto delivery, String claimToken, RuntimeException e) {
+        Long reminderId = delivery.getReminderId();
+        if (delivery.getAttempts() >= maxAttempts) {
+            reminderRepository.markFailed(reminderId, claimToken, LocalDateTime.now());
+            failedCount.increment();
+            log.warn("알림 {} 전송 실패 ({}회 시도, 포기)", reminderId, delivery.getAttempts(), e);
+            return;
+        }
+        LocalDateTime retryAt = LocalDateTime.now().plus(retryDelay);
+        if (reminderRepository.release(reminderId, claimToken, retryAt) > 0) {
+            scheduleIfLoaded(reminderId, retryAt);
+        }
+        retriedCount.increment();
+        log.debug("알림 {} 전송 실패 ({}회 시도, {}에 재시도)", reminderId, delivery.getAttempts(), retryAt, e);
+    }
+
+    private void recordDelivered(ReminderDeliveryDto delivery) {
+        long lag = Math.max(0, Duration.between(delivery.getFireAt(), LocalDateTime.now()).toMillis());
+        deliveredCount.increment();
+        totalLagMillis.add(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+    }
+
+    /**
+     * 적재된 구간 안의 발송 시각이면 휠에 등록, 아니면 휠에서 빼고 다음 적재에 맡김
+     */
+    private void scheduleIfLoaded(Long reminderId, LocalDateTime fireAt) {
+        LocalDateTime until = loadedUntil;
+        synchronized (wheel) {
+            if (until != null && fireAt.isBefore(until)) {
+                wheel.schedule(reminderId, toMillis(fireAt));
+            } else {
+                wheel.cancel(reminderId);
+            }
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.scheduler.reminder;
+
+import org.example.scheduler.dto.reminder.ReminderDeliveryDto;
+
+import java.time.Duration;
+
+/**
+ * 알림 전송 대상
+ * - scheduler.reminder.sink 값으로 구현을 고르며, 다른 전송 방식은 이 인터페이스의 빈을 추가해 연결
+ * - 예외를 던지면 실패로 보고 retry-delay 후 max-attempts까지 다시 전송 (같은 알림이 두 번 전달될 수 있음)
+ */
+public interface ReminderSink {
+    /**
+     * 알림 한 건 전송
+     *
+     * @param delivery 전송할 알림
+     */
+    void deliver(ReminderDeliveryDto delivery);
+
+    /**
+     * 알림 한 건 전송에 걸릴 수 있는 최대 시간 (선점 기간 검증용)
+     *
+     * @return 최대 전송 시간 (제한이 없는 로컬 전송은 0)
+     */
+    default Duration maxDeliveryTime() {
+        return Duration.ZERO;
+    }
+}
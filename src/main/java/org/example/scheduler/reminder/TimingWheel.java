@@ -0,0 +1,160 @@
+package org.example.scheduler.reminder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * 계층형 해시 타이밍 휠 (ID → 만료 시각)
+ * - 단계마다 2^WHEEL_BITS칸이며, 아래 단계 한 바퀴가 위 단계 한 칸이 됨 (tick x 2^(WHEEL_BITS x LEVELS)까지 보관)
+ * - 칸마다 이중 연결 리스트를 두고 ID → 항목 맵으로 찾으므로 등록/취소는 항목 수와 무관하게 O(1)
+ * - 시간이 흐르면 위 단계 칸의 항목을 아래 단계로 내려 보내고(cascade), 0단계 칸에 도달한 항목을 만료 처리
+ * - 스레드 안전하지 않으므로 호출하는 쪽에서 잠금
+ */
+public class TimingWheel {
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final Entry[][] slots = new Entry[LEVELS][WHEEL_SIZE];  // 칸별 리스트의 머리 (센티널)
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private long currentTick;   // 마지막으로 처리한 틱 (originMillis 기준)
+
+    public TimingWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.originMillis = nowMillis;
+        for (Entry[] level : slots) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                level[i] = new Entry(0, 0);
+                level[i].prev = level[i];
+                level[i].next = level[i];
+            }
+        }
+    }
+
+    /**
+     * 항목 등록 (같은 ID가 있으면 만료 시각 변경)
+     * - 이미 지난 시각이면 다음 틱에 만료
+     *
+     * @param id 항목 ID
+     * @param deadlineMillis 만료 시각 (epoch ms)
+     * @return 보관 범위를 넘어 등록하지 않았으면 false
+     */
+    public boolean schedule(long id, long deadlineMillis) {
+        long deadlineTick = Math.max(currentTick + 1, Math.floorDiv(deadlineMillis - originMillis + tickMillis - 1, tickMillis));
+        if (deadlineTick - currentTick >= 1L << (WHEEL_BITS * LEVELS)) {
+            cancel(id);
+            return false;
+        }
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            entry = new Entry(id, deadlineTick);
+            entries.put(id, entry);
+        } else {
+            unlink(entry);
+            entry.deadlineTick = deadlineTick;
+        }
+        place(entry);
+        return true;
+    }
+
+    /**
+     * 항목 취소
+     *
+     * @param id 항목 ID
+     * @return 등록되어 있었으면 true
+     */
+    public boolean cancel(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 틱을 진행하며 만료된 항목 전달
+     *
+     * @param nowMillis 현재 시각 (epoch ms)
+     * @param expired 만료된 항목 ID를 받을 함수 (만료 시각 순)
+     */
+    public void advanceTo(long nowMillis, LongConsumer expired) {
+        long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(1);
+            Entry head = slots[0][(int) (currentTick & MASK)];
+            while (head.next != head) {
+                Entry entry = head.next;
+                unlink(entry);
+                entries.remove(entry.id);
+                expired.accept(entry.id);
+            }
+        }
+    }
+
+    /**
+     * 등록된 항목 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 아래 단계가 한 바퀴 돌았으면 해당 단계의 현재 칸 항목을 아래 단계로 내림 (위 단계부터 차례로)
+     */
+    private void cascade(int level) {
+        if (level >= LEVELS || (currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+            return;
+        }
+        cascade(level + 1);
+        Entry head = slots[level][(int) ((currentTick >>> (WHEEL_BITS * level)) & MASK)];
+        while (head.next != head) {
+            Entry entry = head.next;
+            unlink(entry);
+            place(entry);
+        }
+    }
+
+    /**
+     * 남은 틱 수에 맞는 단계의 칸에 연결
+     */
+    private void place(Entry entry) {
+        long remaining = entry.deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && remaining >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        Entry head = slots[level][(int) ((entry.deadlineTick >>> (WHEEL_BITS * level)) & MASK)];
+        entry.prev = head.prev;
+        entry.next = head;
+        head.prev.next = entry;
+        head.prev = entry;
+    }
+
+    private static void unlink(Entry entry) {
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    /**
+     * 휠 칸의 리스트 항목
+     */
+    private static final class Entry {
+        private final long id;
+        private long deadlineTick;
+        private Entry prev;
+        private Entry next;
+
+        private Entry(long id, long deadlineTick) {
+            this.id = id;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
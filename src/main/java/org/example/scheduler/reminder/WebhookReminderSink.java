@@ -0,0 +1,47 @@
+package org.example.scheduler.reminder;
+
+import org.example.scheduler.dto.reminder.ReminderDeliveryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * 알림을 설정한 URL로 POST하는 전송 대상 (JSON 본문, 2xx가 아니면 실패로 보고 재시도)
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.reminder.sink", havingValue = "webhook")
+public class WebhookReminderSink implements ReminderSink {
+    private final RestClient restClient;
+    private final Duration timeout;
+
+    public WebhookReminderSink(@Value("${scheduler.reminder.webhook.url}") String url,
+                               @Value("${scheduler.reminder.webhook.timeout:5s}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.timeout = timeout;
+        this.restClient = RestClient.builder()
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public void deliver(ReminderDeliveryDto delivery) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(delivery)
+                .retrieve()
+                .toBodilessEntity();    // 4xx/5xx는 RestClientException
+    }
+
+    @Override
+    public Duration maxDeliveryTime() {
+        return timeout.multipliedBy(2);     // 연결 + 응답 대기
+    }
+}
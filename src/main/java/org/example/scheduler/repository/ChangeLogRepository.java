@@ -0,0 +1,76 @@
+package org.example.scheduler.repository;
+
+import org.example.scheduler.entity.ChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ChangeLog Entity에 대한 JPA 리포지토리 인터페이스
+ */
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+    /**
+     * 특정 ID 이후의 변경 기록을 ID 순으로 조회
+     * - settledBefore 이후 기록은 제외하여 아직 커밋되지 않은 더 작은 ID를 건너뛰지 않도록 함
+     *
+     * @param changeId 마지막으로 전달한 변경 기록 ID
+     * @param settledBefore 이 시각 이전 기록만 조회
+     * @param pageable 조회 건수
+     * @return 변경 기록 목록
+     */
+    @Query("""
+            select c from ChangeLog c
+            where c.id > :changeId and c.changedAt < :settledBefore
+            order by c.id
+        """)
+    List<ChangeLog> findSettledAfter(@Param("changeId") long changeId, @Param("settledBefore") LocalDateTime settledBefore, Pageable pageable);
+
+    /**
+     * 특정 시각 이전에 기록된 변경 중 가장 큰 ID 조회
+     *
+     * @param settledBefore 기준 시각
+     * @return 변경 기록 ID, 없으면 null
+     */
+    @Query("select max(c.id) from ChangeLog c where c.changedAt < :settledBefore")
+    Long findMaxSettledId(@Param("settledBefore") LocalDateTime settledBefore);
+
+    /**
+     * 가장 최근 변경 기록 ID 조회 (PK 인덱스 끝에서 읽음)
+     *
+     * @return 변경 기록 ID, 없으면 null
+     */
+    @Query("select max(c.id) from ChangeLog c")
+    Long findMaxId();
+
+    /**
+     * 특정 시각 이전에 마지막으로 기록된 변경 ID 조회 (changedAt 인덱스 끝에서 읽음)
+     *
+     * @param settledBefore 기준 시각
+     * @param pageable 조회 건수 (1건)
+     * @return 변경 기록 ID 목록
+     */
+    @Query("""
+            select c.id from ChangeLog c
+            where c.changedAt < :settledBefore
+            order by c.changedAt desc, c.id desc
+        """)
+    List<Long> findLatestSettledIds(@Param("settledBefore") LocalDateTime settledBefore, Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 변경 기록을 limit건 삭제
+     *
+     * @param before 이 시각 이전 기록 삭제
+     * @param limit 삭제 건수
+     * @return 삭제된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from change_log where changed_at < :before limit :limit", nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -1,23 +1,180 @@
 package org.example.scheduler.repository;
 
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.common.Cursor;
 import org.example.scheduler.entity.Comment;
 import org.example.scheduler.error.CustomException;
 import org.example.scheduler.error.ErrorCode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Comment Entity에 대한 JPA 리포지토리 인터페이스
  */
 public interface CommentRepository extends JpaRepository<Comment, Long>{
     /**
-     * 특정 일정에 해당하는 모든 댓글 조회 및 수정일 기준 내림차순 정렬
+     * 여러 댓글을 응답 DTO로 조회 (변경 피드용)
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return 댓글 목록 (삭제된 댓글 제외, 순서 보장 없음)
+     */
+    @Query("""
+            select new org.example.scheduler.dto.comment.CommentResponseDto (
+                 c.id, c.user.id, c.schedule.id, c.content, c.createdAt, c.modifiedAt, c.version
+            )
+            from Comment c
+            where c.id in :commentIds
+        """)
+    List<CommentResponseDto> findResponsesByIdIn(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * 특정 일정의 댓글을 커서 위치부터 limit건 조회 (수정일, ID 기준 내림차순 정렬)
+     * - (scheduleId, modifiedAt, id) 복합 인덱스를 타므로 댓글 수와 무관하게 limit건만 읽음
+     *
+     * @param scheduleId 일정 ID
+     * @param after 이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param limit 조회 건수
+     * @return 댓글 목록
+     */
+    default List<CommentResponseDto> findResponsePage(Long scheduleId, Cursor after, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (after == null) {
+            return findResponsePageByScheduleId(scheduleId, pageable);
+        }
+        return findResponsePageByScheduleIdAfter(scheduleId, after.getModifiedAt(), after.getId(), pageable);
+    }
+
+    @Query("""
+            select new org.example.scheduler.dto.comment.CommentResponseDto (
+                 c.id, c.user.id, c.schedule.id, c.content, c.createdAt, c.modifiedAt, c.version
+            )
+            from Comment c
+            where c.schedule.id = :scheduleId
+            order by c.modifiedAt desc, c.id desc
+        """)
+    List<CommentResponseDto> findResponsePageByScheduleId(@Param("scheduleId") Long scheduleId, Pageable pageable);
+
+    @Query("""
+            select new org.example.scheduler.dto.comment.CommentResponseDto (
+                 c.id, c.user.id, c.schedule.id, c.content, c.createdAt, c.modifiedAt, c.version
+            )
+            from Comment c
+            where c.schedule.id = :scheduleId
+              and (c.modifiedAt < :modifiedAt
+                   or (c.modifiedAt = :modifiedAt and c.id < :id))
+            order by c.modifiedAt desc, c.id desc
+        """)
+    List<CommentResponseDto> findResponsePageByScheduleIdAfter(@Param("scheduleId") Long scheduleId, @Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 특정 일정에서 커서 위치 이후에 생성/수정된 댓글을 수정일, ID 오름차순으로 조회 (SSE 재연결용)
      *
      * @param scheduleId 일정 ID
+     * @param modifiedAt 마지막으로 받은 변경의 수정일
+     * @param id 마지막으로 받은 변경의 댓글 ID
+     * @param pageable 조회 건수
      * @return 댓글 목록
      */
-    List<Comment> findByScheduleIdOrderByModifiedAtDesc(Long scheduleId);
+    @Query("""
+            select new org.example.scheduler.dto.comment.CommentResponseDto (
+                 c.id, c.user.id, c.schedule.id, c.content, c.createdAt, c.modifiedAt, c.version
+            )
+            from Comment c
+            where c.schedule.id = :scheduleId
+              and (c.modifiedAt > :modifiedAt
+                   or (c.modifiedAt = :modifiedAt and c.id > :id))
+            order by c.modifiedAt, c.id
+        """)
+    List<CommentResponseDto> findResponsesByScheduleIdChangedAfter(@Param("scheduleId") Long scheduleId, @Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 특정 일정에서 커서 위치 이후에 삭제 표시된 댓글 ID 조회 (SSE 재연결용)
+     *
+     * @param scheduleId 일정 ID
+     * @param modifiedAt 마지막으로 받은 변경의 수정일
+     * @param id 마지막으로 받은 변경의 댓글 ID
+     * @param pageable 조회 건수
+     * @return 댓글 ID 목록
+     */
+    @Query(value = """
+            select id from comment
+            where schedule_id = :scheduleId and deleted_at is not null
+              and (modified_at > :modifiedAt or (modified_at = :modifiedAt and id > :id))
+            order by modified_at, id
+        """, nativeQuery = true)
+    List<Long> findDeletedIdsByScheduleIdChangedAfter(@Param("scheduleId") Long scheduleId, @Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 일정/작성자/버전이 일치할 때만 댓글 내용 수정 (조회 없이 UPDATE 한 번으로 처리)
+     * - 삭제 표시된 일정의 댓글은 수정하지 않음
+     *
+     * @param scheduleId 댓글이 속해야 하는 일정 ID
+     * @param commentId 댓글 ID
+     * @param userId 작성자여야 하는 유저 ID
+     * @param version 수정 전 버전 (null이면 버전 확인 생략)
+     * @param content 수정할 내용
+     * @param modifiedAt 수정일
+     * @return 변경된 행 수 (0이면 일정/댓글 없음, 다른 일정의 댓글, 작성자 아님, 버전 불일치 중 하나)
+     */
+    @Modifying
+    @Query("""
+            update Comment c
+            set c.content = :content,
+                c.modifiedAt = :modifiedAt,
+                c.version = c.version + 1
+            where c.id = :commentId and c.schedule.id = :scheduleId and c.user.id = :userId and c.deletedAt is null
+              and (:version is null or c.version = :version)
+              and exists (select 1 from Schedule s where s.id = :scheduleId)
+        """)
+    int updateIfOwned(@Param("scheduleId") Long scheduleId, @Param("commentId") Long commentId, @Param("userId") Long userId,
+                      @Param("version") Long version, @Param("content") String content, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * 일정/작성자가 일치할 때만 댓글에 삭제 표시 (조회 없이 UPDATE 한 번으로 처리)
+     * - 엔티티를 거치지 않으므로 수정일과 버전을 직접 갱신 (SSE 재연결은 수정일 기준으로 삭제된 댓글을 찾음)
+     *
+     * @param scheduleId 댓글이 속해야 하는 일정 ID
+     * @param commentId 댓글 ID
+     * @param userId 작성자여야 하는 유저 ID
+     * @param deletedAt 삭제 일시
+     * @return 변경된 행 수 (0이면 일정/댓글 없음, 다른 일정의 댓글, 작성자 아님 중 하나)
+     */
+    @Modifying
+    @Query("""
+            update Comment c
+            set c.deletedAt = :deletedAt,
+                c.modifiedAt = :deletedAt,
+                c.version = c.version + 1
+            where c.id = :commentId and c.schedule.id = :scheduleId and c.user.id = :userId and c.deletedAt is null
+              and exists (select 1 from Schedule s where s.id = :scheduleId)
+        """)
+    int markDeletedIfOwned(@Param("scheduleId") Long scheduleId, @Param("commentId") Long commentId, @Param("userId") Long userId,
+                           @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 특정 댓글 응답 DTO 조회
+     *
+     * @param commentId 댓글 ID
+     * @return 댓글 (삭제된 댓글이면 empty)
+     */
+    @Query("""
+            select new org.example.scheduler.dto.comment.CommentResponseDto (
+                 c.id, c.user.id, c.schedule.id, c.content, c.createdAt, c.modifiedAt, c.version
+            )
+            from Comment c
+            where c.id = :commentId
+        """)
+    Optional<CommentResponseDto> findResponseById(@Param("commentId") Long commentId);
 
     /**
      * 특정 댓글 조회
@@ -30,18 +187,58 @@ public interface CommentRepository extends JpaRepository<Comment, Long>{
     }
 
     /**
-     * 특정 일정에 등록된 댓글 삭제
+     * 특정 유저의 댓글 ID를 limit건씩 조회 (일괄 삭제 작업용)
+     * - 삭제 표시된 댓글도 포함해야 하므로 네이티브 쿼리 사용
      *
-     * @param scheduleId 일정 ID
+     * @param userId 유저 ID
+     * @param pageable 조회 건수
+     * @return 댓글 ID 목록
      */
-    void deleteByScheduleId(Long scheduleId);
+    @Query(value = "select id from comment where user_id = :userId order by id", nativeQuery = true)
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
     /**
-     * 특정 유저의 댓글 삭제
+     * 특정 일정들에 달린 댓글 ID를 limit건씩 조회 (일괄 삭제 작업용)
      *
-     * @param userId 유저 ID
+     * @param scheduleIds 일정 ID 목록
+     * @param pageable 조회 건수
+     * @return 댓글 ID 목록
      */
-    void deleteByUserId(Long userId);
+    @Query(value = "select id from comment where schedule_id in (:scheduleIds) order by id", nativeQuery = true)
+    List<Long> findIdsByScheduleIdIn(@Param("scheduleIds") List<Long> scheduleIds, Pageable pageable);
 
-    void deleteByScheduleIdIn(List<Long> scheduleIds);
+    /**
+     * 삭제 표시된 댓글, 또는 삭제 표시된 일정에 달린 댓글 ID를 limit건씩 조회 (정리 작업용)
+     *
+     * @param pageable 조회 건수
+     * @return 댓글 ID 목록
+     */
+    @Query(value = """
+            select c.id from comment c
+            where c.deleted_at is not null
+            union all
+            select c.id from comment c join schedule s on s.id = c.schedule_id
+            where s.deleted_at is not null and c.deleted_at is null
+        """, nativeQuery = true)
+    List<Long> findTombstonedIds(Pageable pageable);
+
+    /**
+     * 댓글을 실제로 삭제 (삭제 표시 여부와 무관)
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return 삭제된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from comment where id in (:commentIds)", nativeQuery = true)
+    int purgeByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    /**
+     * 댓글들이 달린 일정 ID 조회
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return 일정 ID 목록 (중복 제거)
+     */
+    @Query("select distinct c.schedule.id from Comment c where c.id in :commentIds")
+    List<Long> findScheduleIdsByIdIn(@Param("commentIds") List<Long> commentIds);
 }
@@ -0,0 +1,254 @@
+package org.example.scheduler.repository;
+
+import org.example.scheduler.dto.reminder.ReminderDeliveryDto;
+import org.example.scheduler.dto.reminder.ReminderResponseDto;
+import org.example.scheduler.entity.Reminder;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reminder Entity에 대한 JPA 리포지토리 인터페이스
+ */
+public interface ReminderRepository extends JpaRepository<Reminder, Long> {
+    default Reminder findByIdOrElseThrow(Long id) {
+        return findById(id).orElseThrow(() -> new CustomException(ErrorCode.REMINDER_NOT_FOUND));
+    }
+
+    /**
+     * 일정의 특정 상태 알림 조회 (일정 수정/삭제 시 재예약/취소용)
+     *
+     * @param scheduleId 일정 ID
+     * @param status 상태
+     * @return 알림 목록
+     */
+    List<Reminder> findByScheduleIdAndStatus(Long scheduleId, Reminder.Status status);
+
+    /**
+     * 일정의 특정 상태 알림 수
+     *
+     * @param scheduleId 일정 ID
+     * @param status 상태
+     * @return 알림 수
+     */
+    long countByScheduleIdAndStatus(Long scheduleId, Reminder.Status status);
+
+    /**
+     * 일정의 알림 목록 조회 (취소된 알림 제외)
+     *
+     * @param scheduleId 일정 ID
+     * @return 알림 목록 (발송 시각 순)
+     */
+    @Query("""
+            select new org.example.scheduler.dto.reminder.ReminderResponseDto (
+                 r.id, r.scheduleId, r.offsetMinutes, r.fireAt, r.status
+            )
+            from Reminder r
+            where r.scheduleId = :scheduleId
+              and r.status <> org.example.scheduler.entity.Reminder.Status.CANCELLED
+            order by r.fireAt, r.id
+        """)
+    List<ReminderResponseDto> findResponsesByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 발송 시각이 until 이전인 대기 알림을 (fireAt, id) 키셋 순으로 조회 (타이밍 휠 적재용)
+     * - (status, fireAt, id) 인덱스 범위만 읽음
+     *
+     * @param afterFireAt 이전 페이지 마지막 알림의 발송 시각
+     * @param afterId 이전 페이지 마지막 알림의 ID
+     * @param until 적재 구간 끝 (제외)
+     * @param pageable 조회 건수
+     * @return 알림 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.reminder.ReminderResponseDto (
+                 r.id, r.scheduleId, r.offsetMinutes, r.fireAt, r.status
+            )
+            from Reminder r
+            where r.status = org.example.scheduler.entity.Reminder.Status.PENDING
+              and r.fireAt < :until
+              and (r.fireAt > :afterFireAt or (r.fireAt = :afterFireAt and r.id > :afterId))
+            order by r.fireAt, r.id
+        """)
+    List<ReminderResponseDto> findPendingBefore(@Param("afterFireAt") LocalDateTime afterFireAt, @Param("afterId") Long afterId,
+                                                @Param("until") LocalDateTime until, Pageable pageable);
+
+    /**
+     * 선점 후 만료 시각이 지난 대기 알림 조회 (전송 중 종료된 인스턴스의 알림, 재시도 대기 알림 복구용)
+     *
+     * @param now 현재 시각
+     * @param pageable 조회 건수
+     * @return 알림 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.reminder.ReminderResponseDto (
+                 r.id, r.scheduleId, r.offsetMinutes, r.fireAt, r.status
+            )
+            from Reminder r
+            where r.claimedUntil < :now
+              and r.status = org.example.scheduler.entity.Reminder.Status.PENDING
+        """)
+    List<ReminderResponseDto> findExpiredClaims(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발송 시각이 된 대기 알림을 묶음 토큰으로 선점 (UPDATE 한 번으로 여러 인스턴스 중 한 곳만 전송)
+     * - 그 사이 재예약되어 발송 시각이 미뤄졌거나, 다른 곳에서 선점 중이거나, 일정이 삭제된 알림은 제외
+     *
+     * @param reminderIds 알림 ID 목록
+     * @param claimToken 묶음 토큰
+     * @param dueBy 이 시각 이전 발송 예정인 알림만 선점
+     * @param now 현재 시각
+     * @param leaseUntil 선점 만료 시각
+     * @return 선점한 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reminder r
+            set r.claimToken = :claimToken,
+                r.claimedUntil = :leaseUntil,
+                r.attempts = r.attempts + 1
+            where r.id in :reminderIds
+              and r.status = org.example.scheduler.entity.Reminder.Status.PENDING
+              and r.fireAt <= :dueBy
+              and (r.claimedUntil is null or r.claimedUntil < :now)
+              and exists (select s.id from Schedule s where s.id = r.scheduleId)
+        """)
+    int claim(@Param("reminderIds") List<Long> reminderIds, @Param("claimToken") String claimToken,
+              @Param("dueBy") LocalDateTime dueBy, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 묶음 토큰으로 선점한 알림과 일정 정보 조회
+     *
+     * @param claimToken 묶음 토큰
+     * @return 전송할 알림 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.reminder.ReminderDeliveryDto (
+                 r.id, r.scheduleId, s.user.id, s.title, r.offsetMinutes, r.fireAt, s.startAt, s.recurrence, r.attempts
+            )
+            from Reminder r join Schedule s on s.id = r.scheduleId
+            where r.claimToken = :claimToken
+        """)
+    List<ReminderDeliveryDto> findDeliveriesByClaimToken(@Param("claimToken") String claimToken);
+
+    /**
+     * 전송 직전에 선점 기간 연장 (묶음 전송이 길어져 선점이 만료되는 것 방지)
+     * - 그 사이 선점이 만료되어 다른 곳에서 다시 선점했거나 재예약/취소된 알림은 토큰이 달라 제외
+     *
+     * @param reminderId 알림 ID
+     * @param claimToken 묶음 토큰
+     * @param leaseUntil 새 선점 만료 시각
+     * @return 변경된 건수 (0이면 전송하지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reminder r
+            set r.claimedUntil = :leaseUntil
+            where r.id = :reminderId and r.claimToken = :claimToken
+              and r.status = org.example.scheduler.entity.Reminder.Status.PENDING
+        """)
+    int renewLease(@Param("reminderId") Long reminderId, @Param("claimToken") String claimToken, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 전송한 알림을 완료 처리 (전송 중 재예약/취소된 알림은 토큰이 지워져 제외)
+     *
+     * @param reminderIds 알림 ID 목록
+     * @param claimToken 묶음 토큰
+     * @param now 완료 시각
+     * @return 변경된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reminder r
+            set r.status = org.example.scheduler.entity.Reminder.Status.SENT,
+                r.finishedAt = :now, r.claimToken = null, r.claimedUntil = null
+            where r.id in :reminderIds and r.claimToken = :claimToken
+        """)
+    int markSent(@Param("reminderIds") List<Long> reminderIds, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+    /**
+     * 반복 일정의 알림을 다음 발생으로 이동
+     *
+     * @param reminderId 알림 ID
+     * @param claimToken 묶음 토큰
+     * @param fireAt 다음 발송 시각
+     * @return 변경된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reminder r
+            set r.fireAt = :fireAt, r.attempts = 0, r.claimToken = null, r.claimedUntil = null
+            where r.id = :reminderId and r.claimToken = :claimToken
+        """)
+    int advance(@Param("reminderId") Long reminderId, @Param("claimToken") String claimToken, @Param("fireAt") LocalDateTime fireAt);
+
+    /**
+     * 전송에 실패한 알림의 선점을 풀고 retryAt 이후에 다시 선점할 수 있도록 함 (발송 시각 유지)
+     *
+     * @param reminderId 알림 ID
+     * @param claimToken 묶음 토큰
+     * @param retryAt 재시도 시각
+     * @return 변경된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reminder r
+            set r.claimToken = null, r.claimedUntil = :retryAt
+            where r.id = :reminderId and r.claimToken = :claimToken
+        """)
+    int release(@Param("reminderId") Long reminderId, @Param("claimToken") String claimToken, @Param("retryAt") LocalDateTime retryAt);
+
+    /**
+     * 최대 시도 횟수를 넘긴 알림을 실패 처리
+     *
+     * @param reminderId 알림 ID
+     * @param claimToken 묶음 토큰
+     * @param now 실패 시각
+     * @return 변경된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reminder r
+            set r.status = org.example.scheduler.entity.Reminder.Status.FAILED,
+                r.finishedAt = :now, r.claimToken = null, r.claimedUntil = null
+            where r.id = :reminderId and r.claimToken = :claimToken
+        """)
+    int markFailed(@Param("reminderId") Long reminderId, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+    /**
+     * 일정의 알림을 실제로 삭제 (탈퇴 유저 일정 삭제 시)
+     *
+     * @param scheduleIds 일정 ID 목록
+     * @return 삭제된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from reminder where schedule_id in (:scheduleIds)", nativeQuery = true)
+    int purgeByScheduleIdIn(@Param("scheduleIds") List<Long> scheduleIds);
+
+    /**
+     * 보관 기간이 지난 끝난 알림을 limit건 삭제
+     *
+     * @param before 이 시각 이전에 끝난 알림 삭제
+     * @param limit 삭제 건수
+     * @return 삭제된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from reminder where finished_at < :before limit :limit", nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,26 @@
+package org.example.scheduler.repository;
+
+import org.example.scheduler.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * RevokedToken Entity에 대한 JPA 리포지토리 인터페이스
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    /**
+     * 만료된 무효화 기록 삭제
+     *
+     * @param now 기준 시각
+     * @return 삭제된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
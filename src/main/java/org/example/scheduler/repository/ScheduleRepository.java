@@ -1,16 +1,25 @@
 package org.example.scheduler.repository;
 
 import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.entity.DurationBucket;
+import org.example.scheduler.entity.RecurrenceRule;
 import org.example.scheduler.entity.Schedule;
 import org.example.scheduler.error.CustomException;
 import org.example.scheduler.error.ErrorCode;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 
 /**
@@ -28,58 +37,412 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
         return findById(scheduleId).orElseThrow(() -> new CustomException(ErrorCode.SCHEDULE_NOT_FOUND));
     }
 
+    /**
+     * 특정 일정을 응답 DTO로 조회
+     * - 엔티티를 로딩하지 않아 작성자 추가 조회가 발생하지 않음
+     *
+     * @param scheduleId 일정 ID
+     * @return 일정
+     */
+    default ScheduleResponseDto findResponseByIdOrElseThrow(Long scheduleId) {
+        return findResponseById(scheduleId).orElseThrow(() -> new CustomException(ErrorCode.SCHEDULE_NOT_FOUND));
+    }
+
+    @Query("""
+            select new org.example.scheduler.dto.schedule.ScheduleResponseDto (
+                 s.id, s.user.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.createdAt, s.modifiedAt, s.version
+            )
+            from Schedule s
+            where s.id = :scheduleId
+        """)
+    Optional<ScheduleResponseDto> findResponseById(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 여러 일정을 응답 DTO로 조회 (검색 색인 반영용)
+     *
+     * @param scheduleIds 일정 ID 목록
+     * @return 일정 목록 (삭제된 일정 제외)
+     */
+    @Query("""
+            select new org.example.scheduler.dto.schedule.ScheduleResponseDto (
+                 s.id, s.user.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.createdAt, s.modifiedAt, s.version
+            )
+            from Schedule s
+            where s.id in :scheduleIds
+        """)
+    List<ScheduleResponseDto> findResponsesByIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    /**
+     * ID 순으로 특정 ID 이후의 일정 조회 (검색 색인 재생성용)
+     *
+     * @param id 이전 묶음의 마지막 일정 ID
+     * @param pageable 조회 건수
+     * @return 일정 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.schedule.ScheduleResponseDto (
+                 s.id, s.user.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.createdAt, s.modifiedAt, s.version
+            )
+            from Schedule s
+            where s.id > :id
+            order by s.id
+        """)
+    List<ScheduleResponseDto> findResponsesAfterId(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 특정 시각 이후 수정된 일정 ID 조회 (삭제 표시된 일정 포함, 검색 색인 따라잡기용)
+     *
+     * @param since 기준 수정일
+     * @return 일정 ID 목록
+     */
+    @Query(value = "select id from schedule where modified_at >= :since", nativeQuery = true)
+    List<Long> findIdsModifiedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 여러 일정을 목록 응답 DTO로 조회 (검색 결과용)
+     *
+     * @param scheduleIds 일정 ID 목록
+     * @return 일정 목록 (순서 보장 없음)
+     */
+    @Query("""
+            select new org.example.scheduler.dto.schedule.SchedulePageResponseDto (
+                 s.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.commentCount, s.createdAt, s.modifiedAt, u.name
+            )
+            from Schedule s join s.user u
+            where s.id in :scheduleIds
+        """)
+    List<SchedulePageResponseDto> findPageResponsesByIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
+
     /**
      * 모든 일정 (페이지) 조회 및 수정일 기준 내림차순 정렬
+     * - count 쿼리 없이 size + 1건을 읽어 다음 페이지 존재 여부만 판단 (전체 건수는 ScheduleCountCache 사용)
      *
      * @param pageable 페이지 정보
      * @return 일정 목록
      */
-    @Query(
-        value = """
+    @Query("""
             select new org.example.scheduler.dto.schedule.SchedulePageResponseDto (
-                 s.id, s.title, s.content, (select count(c.id) from Comment c where c.schedule = s), s.createdAt, s.modifiedAt, u.name
+                 s.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.commentCount, s.createdAt, s.modifiedAt, u.name
             )
             from Schedule s join s.user u
-            order by s.modifiedAt desc
-        """,
-        countQuery = """
-            select count(s.id)
-            from Schedule s
-        """
-    )
-    Page<SchedulePageResponseDto> findPageByOrderByModifiedAtDesc(Pageable pageable);
+            order by s.modifiedAt desc, s.id desc
+        """)
+    Slice<SchedulePageResponseDto> findSliceByOrderByModifiedAtDesc(Pageable pageable);
 
     /**
      * 특정 유저의 모든 일정 (페이지) 조회 및 수정일 기준 내림차순 정렬
+     * - count 쿼리 없이 size + 1건을 읽어 다음 페이지 존재 여부만 판단 (전체 건수는 ScheduleCountCache 사용)
      *
      * @param userId 유저 ID
      * @param pageable 페이지 정보
      * @return 일정 목록
      */
-    @Query(
-        value = """
+    @Query("""
             select new org.example.scheduler.dto.schedule.SchedulePageResponseDto (
-                 s.id, s.title, s.content, (select count(c.id) from Comment c where c.schedule = s), s.createdAt, s.modifiedAt, u.name
+                 s.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.commentCount, s.createdAt, s.modifiedAt, u.name
              )
             from Schedule s join s.user u
             where u.id = :userId
-            order by s.modifiedAt desc
-        """,
-        countQuery = """
-            select count(s.id)
+            order by s.modifiedAt desc, s.id desc
+        """)
+    Slice<SchedulePageResponseDto> findSliceByUserIdOrderByModifiedAtDesc(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 전체 일정 수 조회 (ScheduleCountCache 갱신용)
+     *
+     * @return 일정 수
+     */
+    @Query("select count(s.id) from Schedule s")
+    long countAll();
+
+    /**
+     * 특정 유저의 일정 수 조회 (ScheduleCountCache 갱신용)
+     *
+     * @param userId 유저 ID
+     * @return 일정 수
+     */
+    @Query("select count(s.id) from Schedule s where s.user.id = :userId")
+    long countByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 유저의 일정 중 [from, to) 기간과 겹치는 일정 조회 (시작 시각 순 정렬)
+     * - 길이 구간마다 시작 시각 하한을 두어 (userId, durationBucket, startAt) 인덱스에서 기간 근처만 읽음
+     *   (과거 일정이 아무리 많아도 from - 구간 최대 길이 이후의 시작 시각만 탐색)
+     *
+     * @param userId 유저 ID
+     * @param from 조회 시작 시각 (포함)
+     * @param to 조회 종료 시각 (제외)
+     * @param limit 최대 조회 건수
+     * @return 일정 목록
+     */
+    default List<SchedulePageResponseDto> findOverlapping(Long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        return findOverlappingByUserId(userId, from, to,
+                DurationBucket.HOUR.earliestStartOverlapping(from),
+                DurationBucket.DAY.earliestStartOverlapping(from),
+                DurationBucket.WEEK.earliestStartOverlapping(from),
+                DurationBucket.MONTH.earliestStartOverlapping(from),
+                PageRequest.of(0, limit));
+    }
+
+    @Query("""
+            select new org.example.scheduler.dto.schedule.SchedulePageResponseDto (
+                 s.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.commentCount, s.createdAt, s.modifiedAt, u.name
+            )
+            from Schedule s join s.user u
+            where s.user.id = :userId
+              and s.startAt < :to and s.endAt > :from
+              and (   (s.durationBucket = org.example.scheduler.entity.DurationBucket.HOUR and s.startAt >= :hourFrom)
+                   or (s.durationBucket = org.example.scheduler.entity.DurationBucket.DAY and s.startAt >= :dayFrom)
+                   or (s.durationBucket = org.example.scheduler.entity.DurationBucket.WEEK and s.startAt >= :weekFrom)
+                   or (s.durationBucket = org.example.scheduler.entity.DurationBucket.MONTH and s.startAt >= :monthFrom)
+                   or s.durationBucket = org.example.scheduler.entity.DurationBucket.LONGER)
+            order by s.startAt, s.id
+        """)
+    List<SchedulePageResponseDto> findOverlappingByUserId(@Param("userId") Long userId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                          @Param("hourFrom") LocalDateTime hourFrom, @Param("dayFrom") LocalDateTime dayFrom,
+                                                          @Param("weekFrom") LocalDateTime weekFrom, @Param("monthFrom") LocalDateTime monthFrom,
+                                                          Pageable pageable);
+
+    /**
+     * 특정 유저의 반복 일정 중 첫 발생이 to 이전인 일정 조회 (발생 시각은 서비스에서 계산)
+     * - RECURRING 구간만 (userId, durationBucket, startAt) 인덱스로 읽음
+     *
+     * @param userId 유저 ID
+     * @param to 조회 종료 시각 (제외)
+     * @return 반복 일정 목록 (startAt/endAt은 첫 발생)
+     */
+    @Query("""
+            select new org.example.scheduler.dto.schedule.SchedulePageResponseDto (
+                 s.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.commentCount, s.createdAt, s.modifiedAt, u.name
+            )
+            from Schedule s join s.user u
+            where s.user.id = :userId
+              and s.durationBucket = org.example.scheduler.entity.DurationBucket.RECURRING
+              and s.startAt < :to
+        """)
+    List<SchedulePageResponseDto> findRecurringByUserIdStartingBefore(@Param("userId") Long userId, @Param("to") LocalDateTime to);
+
+    /**
+     * 모든 일정의 커서 페이지 첫 구간 조회 (수정일, ID 기준 내림차순 정렬)
+     *
+     * @param pageable 조회 건수 (offset 없이 limit으로만 사용)
+     * @return 일정 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.schedule.SchedulePageResponseDto (
+                 s.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.commentCount, s.createdAt, s.modifiedAt, u.name
+            )
+            from Schedule s join s.user u
+            order by s.modifiedAt desc, s.id desc
+        """)
+    List<SchedulePageResponseDto> findCursorPage(Pageable pageable);
+
+    /**
+     * 커서 위치 이후의 모든 일정 조회 (수정일, ID 기준 내림차순 정렬)
+     * - (modifiedAt, id) 복합 인덱스를 타고 커서 위치부터 읽으므로 페이지 깊이와 무관하게 일정한 비용
+     *
+     * @param modifiedAt 커서의 수정일
+     * @param id 커서의 일정 ID
+     * @param pageable 조회 건수 (offset 없이 limit으로만 사용)
+     * @return 일정 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.schedule.SchedulePageResponseDto (
+                 s.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.commentCount, s.createdAt, s.modifiedAt, u.name
+            )
+            from Schedule s join s.user u
+            where s.modifiedAt < :modifiedAt
+               or (s.modifiedAt = :modifiedAt and s.id < :id)
+            order by s.modifiedAt desc, s.id desc
+        """)
+    List<SchedulePageResponseDto> findCursorPageAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 특정 유저 일정의 커서 페이지 첫 구간 조회 (수정일, ID 기준 내림차순 정렬)
+     *
+     * @param userId 유저 ID
+     * @param pageable 조회 건수 (offset 없이 limit으로만 사용)
+     * @return 일정 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.schedule.SchedulePageResponseDto (
+                 s.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.commentCount, s.createdAt, s.modifiedAt, u.name
+            )
+            from Schedule s join s.user u
+            where u.id = :userId
+            order by s.modifiedAt desc, s.id desc
+        """)
+    List<SchedulePageResponseDto> findCursorPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 커서 위치 이후의 특정 유저 일정 조회 (수정일, ID 기준 내림차순 정렬)
+     *
+     * @param userId 유저 ID
+     * @param modifiedAt 커서의 수정일
+     * @param id 커서의 일정 ID
+     * @param pageable 조회 건수 (offset 없이 limit으로만 사용)
+     * @return 일정 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.schedule.SchedulePageResponseDto (
+                 s.id, s.title, s.content, s.startAt, s.endAt, s.recurrence, s.commentCount, s.createdAt, s.modifiedAt, u.name
+            )
             from Schedule s join s.user u
             where u.id = :userId
-        """
-    )
-    Page<SchedulePageResponseDto> findPageByUserIdOrderByModifiedAtDesc(@Param("userId") Long userId, Pageable pageable);
+              and (s.modifiedAt < :modifiedAt
+                   or (s.modifiedAt = :modifiedAt and s.id < :id))
+            order by s.modifiedAt desc, s.id desc
+        """)
+    List<SchedulePageResponseDto> findCursorPageByUserIdAfter(@Param("userId") Long userId, @Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
 
     /**
-     * 특정 유저의 일정 삭제
+     * 특정 유저의 일정 ID를 limit건씩 조회 (일괄 삭제 작업용)
+     * - 삭제 표시된 일정도 포함해야 하므로 네이티브 쿼리 사용
      *
      * @param userId 유저 ID
+     * @param pageable 조회 건수
+     * @return 일정 ID 목록
+     */
+    @Query(value = "select id from schedule where user_id = :userId order by id", nativeQuery = true)
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 삭제 표시되었고 남은 댓글이 없는 일정 ID를 limit건씩 조회 (정리 작업용)
+     *
+     * @param pageable 조회 건수
+     * @return 일정 ID 목록
+     */
+    @Query(value = """
+            select s.id from schedule s
+            where s.deleted_at is not null
+              and not exists (select 1 from comment c where c.schedule_id = s.id)
+        """, nativeQuery = true)
+    List<Long> findTombstonedIds(Pageable pageable);
+
+    /**
+     * 일정을 실제로 삭제 (삭제 표시 여부와 무관)
+     *
+     * @param scheduleIds 일정 ID 목록
+     * @return 삭제된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from schedule where id in (:scheduleIds)", nativeQuery = true)
+    int purgeByIdIn(@Param("scheduleIds") List<Long> scheduleIds);
+
+    /**
+     * 작성자와 버전이 일치할 때만 일정 제목/내용 수정 (조회 없이 UPDATE 한 번으로 처리)
+     * - 엔티티를 거치지 않으므로 수정일과 버전을 직접 갱신
+     *
+     * @param scheduleId 일정 ID
+     * @param userId 작성자여야 하는 유저 ID
+     * @param version 수정 전 버전 (null이면 버전 확인 생략)
+     * @param title 수정할 제목 (null이면 유지)
+     * @param content 수정할 내용 (null이면 유지)
+     * @param startAt 수정할 시작 시각 (null이면 유지, 종료 시각과 함께 전달)
+     * @param endAt 수정할 종료 시각 (null이면 유지)
+     * @param recurrence 수정할 반복 규칙 (null이면 유지, 시작/종료 시각과 함께 전달)
+     * @param durationBucket 수정할 시각의 길이 구간 (null이면 유지, 반복 일정이면 RECURRING 유지)
+     * @param modifiedAt 수정일
+     * @return 변경된 행 수 (0이면 일정 없음, 작성자 아님, 버전 불일치 중 하나)
+     */
+    @Modifying
+    @Query("""
+            update Schedule s
+            set s.title = coalesce(:title, s.title),
+                s.content = coalesce(:content, s.content),
+                s.startAt = coalesce(:startAt, s.startAt),
+                s.endAt = coalesce(:endAt, s.endAt),
+                s.recurrence = coalesce(:recurrence, s.recurrence),
+                s.durationBucket = case when s.recurrence is not null or :recurrence is not null
+                                        then org.example.scheduler.entity.DurationBucket.RECURRING
+                                        else coalesce(:durationBucket, s.durationBucket) end,
+                s.modifiedAt = :modifiedAt,
+                s.version = s.version + 1
+            where s.id = :scheduleId and s.user.id = :userId and s.deletedAt is null
+              and (:version is null or s.version = :version)
+        """)
+    int updateIfOwned(@Param("scheduleId") Long scheduleId, @Param("userId") Long userId, @Param("version") Long version,
+                      @Param("title") String title, @Param("content") String content,
+                      @Param("startAt") LocalDateTime startAt, @Param("endAt") LocalDateTime endAt,
+                      @Param("recurrence") RecurrenceRule recurrence, @Param("durationBucket") DurationBucket durationBucket,
+                      @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * 작성자일 때만 일정에 삭제 표시 (조회 없이 UPDATE 한 번으로 처리)
+     * - 엔티티를 거치지 않으므로 수정일과 버전을 직접 갱신
+     *
+     * @param scheduleId 일정 ID
+     * @param userId 작성자여야 하는 유저 ID
+     * @param deletedAt 삭제 일시
+     * @return 변경된 행 수 (0이면 일정 없음, 작성자 아님 중 하나)
+     */
+    @Modifying
+    @Query("""
+            update Schedule s
+            set s.deletedAt = :deletedAt,
+                s.modifiedAt = :deletedAt,
+                s.version = s.version + 1
+            where s.id = :scheduleId and s.user.id = :userId and s.deletedAt is null
+        """)
+    int markDeletedIfOwned(@Param("scheduleId") Long scheduleId, @Param("userId") Long userId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 일정의 댓글 개수 1 증가
+     *
+     * @param scheduleId 일정 ID
+     * @return 변경된 행 수
      */
-    void deleteByUserId(Long userId);
+    @Modifying
+    @Query("update Schedule s set s.commentCount = s.commentCount + 1 where s.id = :scheduleId")
+    int increaseCommentCount(@Param("scheduleId") Long scheduleId);
 
-    @Query("select s.id from Schedule s where s.user.id = :userId")
-    List<Long> findIdsByUserId(@Param("userId") Long userId);
+    /**
+     * 일정의 댓글 개수 1 감소
+     *
+     * @param scheduleId 일정 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Schedule s set s.commentCount = s.commentCount - 1 where s.id = :scheduleId and s.commentCount > 0")
+    int decreaseCommentCount(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 삭제할 댓글 수만큼 해당 댓글이 달린 일정들의 댓글 개수 감소
+     * - 댓글을 일괄 삭제하기 전에 같은 트랜잭션에서 호출
+     *
+     * @param commentIds 삭제할 댓글 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("""
+            update Schedule s
+            set s.commentCount = s.commentCount - (select count(c.id) from Comment c where c.schedule = s and c.id in :commentIds)
+            where s.id in (select c2.schedule.id from Comment c2 where c2.id in :commentIds)
+        """)
+    int decreaseCommentCountByCommentIds(@Param("commentIds") List<Long> commentIds);
+
+    /**
+     * ID 구간에 속한 일정의 댓글 개수를 실제 댓글 수로 재계산 (보정 작업용)
+     *
+     * @param fromId 시작 일정 ID (포함)
+     * @param toId 끝 일정 ID (포함)
+     * @return 대상 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Schedule s
+            set s.commentCount = (select count(c.id) from Comment c where c.schedule = s)
+            where s.id between :fromId and :toId
+        """)
+    int recountCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 가장 큰 일정 ID 조회
+     *
+     * @return 최대 일정 ID, 일정이 없으면 null
+     */
+    @Query("select max(s.id) from Schedule s")
+    Long findMaxId();
 }
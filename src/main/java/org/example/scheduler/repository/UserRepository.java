@@ -1,12 +1,26 @@
 package org.example.scheduler.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.scheduler.dto.common.VersionStamp;
+import org.example.scheduler.dto.user.UserResponseDto;
 import org.example.scheduler.entity.User;
 import org.example.scheduler.error.CustomException;
 import org.example.scheduler.error.ErrorCode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * User Entity에 대한 JPA 리포지토리 인터페이스
@@ -21,6 +35,21 @@ public interface UserRepository extends JpaRepository<User, Long>{
     default User findByIdOrElseThrow(Long userId){
         return findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
+
+    /**
+     * 특정 유저를 쓰기 잠금과 함께 조회 (같은 유저의 일정 겹침 확인 + 생성을 한 번에 하나씩 처리)
+     *
+     * @param userId 유저 ID
+     * @return 유저
+     * @throws CustomException 유저가 없으면 404 반환
+     */
+    default User findByIdForUpdateOrElseThrow(Long userId) {
+        return findByIdForUpdate(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
     
     /**
      * 특정 이메일이 존재하는지 확인
@@ -43,8 +72,119 @@ public interface UserRepository extends JpaRepository<User, Long>{
 
     /**
      * 모든 유저 조회 및 수정일 기준 내림차순 정렬
+     * - 응답에 필요한 컬럼만 조회하여 비밀번호 해시 등을 영속성 컨텍스트에 올리지 않음
+     *
+     * @return 유저 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.user.UserResponseDto (
+                 u.id, u.name, u.email, u.createdAt, u.modifiedAt
+            )
+            from User u
+            order by u.modifiedAt desc
+        """)
+    List<UserResponseDto> findAllResponses();
+
+    /**
+     * 모든 유저를 수정일, ID 기준 내림차순으로 한 건씩 읽는 스트림
+     * - JDBC fetch size 단위로 서버 커서에서 읽어 전체 결과를 메모리에 올리지 않음
+     * - 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     *
+     * @return 유저 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new org.example.scheduler.dto.user.UserResponseDto (
+                 u.id, u.name, u.email, u.createdAt, u.modifiedAt
+            )
+            from User u
+            order by u.modifiedAt desc, u.id desc
+        """)
+    Stream<UserResponseDto> streamAllResponses();
+
+    /**
+     * 유저 커서 페이지 첫 구간 조회 (수정일, ID 기준 내림차순 정렬)
+     *
+     * @param pageable 조회 건수 (offset 없이 limit으로만 사용)
+     * @return 유저 목록
+     */
+    @Query("""
+            select new org.example.scheduler.dto.user.UserResponseDto (
+                 u.id, u.name, u.email, u.createdAt, u.modifiedAt
+            )
+            from User u
+            order by u.modifiedAt desc, u.id desc
+        """)
+    List<UserResponseDto> findCursorPage(Pageable pageable);
+
+    /**
+     * 커서 위치 이후의 유저 조회 (수정일, ID 기준 내림차순 정렬)
      *
+     * @param modifiedAt 커서의 수정일
+     * @param id 커서의 유저 ID
+     * @param pageable 조회 건수 (offset 없이 limit으로만 사용)
      * @return 유저 목록
      */
-    List<User> findAllByOrderByModifiedAtDesc();
+    @Query("""
+            select new org.example.scheduler.dto.user.UserResponseDto (
+                 u.id, u.name, u.email, u.createdAt, u.modifiedAt
+            )
+            from User u
+            where u.modifiedAt < :modifiedAt
+               or (u.modifiedAt = :modifiedAt and u.id < :id)
+            order by u.modifiedAt desc, u.id desc
+        """)
+    List<UserResponseDto> findCursorPageAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 특정 유저의 수정일 조회 (ETag 계산용)
+     *
+     * @param userId 유저 ID
+     * @return 수정일 (유저가 없으면 empty)
+     */
+    @Query("select u.modifiedAt from User u where u.id = :userId")
+    Optional<LocalDateTime> findModifiedAtById(@Param("userId") Long userId);
+
+    /**
+     * 가장 최근에 수정된 유저의 수정일 조회 (일정 목록의 작성자명 변경 감지용)
+     * - (modifiedAt, id) 인덱스의 끝에서 읽으므로 유저 수와 무관
+     *
+     * @return 수정일 (유저가 없으면 null)
+     */
+    @Query("select max(u.modifiedAt) from User u")
+    LocalDateTime findLastModifiedAt();
+
+    /**
+     * 유저 목록 응답의 버전 조회 (ETag 계산용)
+     * - 응답 DTO를 만들지 않고 수정일/건수/ID 합계만 집계
+     *
+     * @return 유저 목록 버전
+     */
+    @Query("""
+            select new org.example.scheduler.dto.common.VersionStamp (
+                 max(u.modifiedAt), count(u.id), coalesce(sum(u.id), 0L)
+            )
+            from User u
+        """)
+    VersionStamp findVersion();
+
+    /**
+     * 탈퇴 처리되었지만 아직 실제로 삭제되지 않은 유저 ID 조회
+     * - 엔티티 조회는 탈퇴 유저를 제외하므로 네이티브 쿼리 사용
+     *
+     * @return 유저 ID 목록
+     */
+    @Query(value = "select id from user where deleted_at is not null", nativeQuery = true)
+    List<Long> findDeletedIds();
+
+    /**
+     * 일정/댓글 정리가 끝난 탈퇴 유저를 실제로 삭제
+     *
+     * @param userId 유저 ID
+     * @return 삭제된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from user where id = :userId and deleted_at is not null", nativeQuery = true)
+    int deleteDeletedById(@Param("userId") Long userId);
 }
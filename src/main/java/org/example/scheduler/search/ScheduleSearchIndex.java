@@ -0,0 +1,330 @@
+package org.example.scheduler.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.example.scheduler.event.UserDataPurgedEvent;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일정 제목/내용 전문 검색용 프로세스 내 역색인 (Lucene)
+ * - 한국어는 형태소 분석기(Nori)로 토큰화하고 BM25로 순위를 매김, 마지막 단어는 접두어 검색
+ * - 일정 변경 이벤트의 일정 ID를 모아 한 번에 DB에서 읽어 색인에 반영 (삭제/존재하지 않으면 색인에서 제거)
+ * - 색인은 로컬 디렉터리에 주기적으로 저장되어 재시작 시 전체 재색인 없이 마지막 저장 이후 변경분만 반영
+ * - 모든 쓰기는 색인 전용 스레드 하나에서 순서대로 처리
+ */
+@Slf4j
+@Component
+public class ScheduleSearchIndex {
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final float TITLE_BOOST = 2.0f;              // 제목 일치 가중치
+    private static final int BATCH_SIZE = 500;                  // 한 번에 DB에서 읽어 반영하는 일정 수
+    private static final String WATERMARK = "watermark";        // 저장된 색인에 반영이 보장되는 수정일
+    private static final long WATERMARK_MARGIN_MINUTES = 1;     // 커밋과 이벤트 처리 사이 지연 여유
+
+    private final ScheduleRepository scheduleRepository;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("search-index-"));
+    private final BlockingQueue<Long> pending = new LinkedBlockingQueue<>();    // 반영 대기 중인 일정 ID
+    private final Set<Long> failedIds = new HashSet<>();    // 반영에 실패해 다시 시도할 일정 ID (색인 스레드에서만 접근)
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();    // 대기 중이거나 진행 중인 재생성이 있으면 새 요청은 무시
+    private volatile boolean rebuilding;    // 재생성 중에는 비어 있는 색인이 검색에 노출되지 않도록 갱신 중지
+    private volatile LocalDateTime watermark;
+
+    public ScheduleSearchIndex(ScheduleRepository scheduleRepository,
+                               @Value("${scheduler.search.index-path:./data/search-index}") String indexPath) throws IOException {
+        this.scheduleRepository = scheduleRepository;
+        this.directory = FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.watermark = readWatermark();
+    }
+
+    /**
+     * 기동 완료 후 저장된 색인 이후의 변경분 반영 (저장된 색인이 없으면 전체 재색인)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        if (watermark == null) {
+            rebuild();
+            return;
+        }
+        enqueue(scheduleRepository.findIdsModifiedSince(watermark));
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        indexExecutor.shutdown();
+        indexExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        commitIndex();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        enqueue(List.of(event.getScheduleId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataPurged(UserDataPurgedEvent event) {
+        enqueue(event.getScheduleIds());
+    }
+
+    /**
+     * 일정 검색
+     *
+     * @param keyword 검색어
+     * @param size 최대 결과 수
+     * @return 관련도 순 일정 ID 목록
+     */
+    public List<Long> search(String keyword, int size) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(buildQuery(keyword), size).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> scheduleIds = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    scheduleIds.add(Long.valueOf(storedFields.document(hit.doc).get(ID)));
+                }
+                return scheduleIds;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * DB의 모든 일정으로 색인을 다시 생성 (색인 스레드에서 비동기 처리)
+     * - 완료될 때까지 검색은 기존 색인 기준으로 동작
+     * - 이미 대기 중이거나 진행 중인 재생성이 있으면 합쳐서 한 번만 실행 (진행 중의 변경은 이벤트로 반영됨)
+     *
+     * @return 새로 재생성을 예약했으면 true
+     */
+    public boolean rebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return false;
+        }
+        indexExecutor.execute(this::rebuildIndex);
+        return true;
+    }
+
+    /**
+     * 반영된 변경을 검색에 노출 (near-real-time)
+     */
+    @Scheduled(fixedDelayString = "${scheduler.search.refresh-millis:1000}")
+    public void refresh() throws IOException {
+        if (!rebuilding) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    /**
+     * 반영에 실패한 변경을 다시 시도하고 색인을 로컬 디렉터리에 저장
+     */
+    @Scheduled(fixedDelayString = "${scheduler.search.commit-millis:30000}")
+    public void commit() {
+        indexExecutor.execute(() -> {
+            retryFailed();
+            commitIndex();
+        });
+    }
+
+    private void enqueue(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        pending.addAll(scheduleIds);
+        if (drainScheduled.compareAndSet(false, true)) {
+            indexExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        List<Long> scheduleIds = new ArrayList<>(BATCH_SIZE);
+        while (pending.drainTo(scheduleIds, BATCH_SIZE) > 0) {
+            try {
+                reconcile(scheduleIds);
+            } catch (RuntimeException | IOException e) {
+                failedIds.addAll(scheduleIds);
+                log.warn("검색 색인 반영 실패: 일정 {}건 (다음 저장 시 재시도)", scheduleIds.size(), e);
+            }
+            scheduleIds.clear();
+        }
+    }
+
+    /**
+     * 반영에 실패한 일정 ID를 다시 대기열에 넣음 (모두 반영될 때까지 반영 기준 시각은 앞당기지 않음)
+     */
+    private void retryFailed() {
+        if (!failedIds.isEmpty()) {
+            List<Long> scheduleIds = new ArrayList<>(failedIds);
+            failedIds.clear();
+            enqueue(scheduleIds);
+        }
+    }
+
+    /**
+     * 일정 ID들의 현재 DB 상태를 색인에 반영 (조회되지 않는 일정은 색인에서 제거)
+     */
+    private void reconcile(List<Long> scheduleIds) throws IOException {
+        Set<Long> missingIds = new HashSet<>(scheduleIds);
+        for (ScheduleResponseDto schedule : scheduleRepository.findResponsesByIdIn(scheduleIds)) {
+            index(schedule);
+            missingIds.remove(schedule.getId());
+        }
+        for (Long missingId : missingIds) {
+            writer.deleteDocuments(new Term(ID, missingId.toString()));
+        }
+    }
+
+    private void rebuildIndex() {
+        rebuilding = true;
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            writer.deleteAll();
+            long lastId = 0;
+            long indexed = 0;
+            List<ScheduleResponseDto> schedules;
+            while (!(schedules = scheduleRepository.findResponsesAfterId(lastId, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+                for (ScheduleResponseDto schedule : schedules) {
+                    index(schedule);
+                }
+                lastId = schedules.get(schedules.size() - 1).getId();
+                indexed += schedules.size();
+            }
+            failedIds.clear();  // 재생성 시작 전에 실패한 변경도 모두 반영됨
+            watermark = startedAt.minusMinutes(WATERMARK_MARGIN_MINUTES);
+            commitIndex();
+            searcherManager.maybeRefresh();
+            log.info("검색 색인 재생성 완료: 일정 {}건", indexed);
+        } catch (RuntimeException | IOException e) {
+            log.error("검색 색인 재생성 실패", e);
+        } finally {
+            rebuilding = false;
+            rebuildScheduled.set(false);
+        }
+    }
+
+    private void index(ScheduleResponseDto schedule) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(ID, schedule.getId().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, schedule.getTitle(), Field.Store.NO));
+        document.add(new TextField(CONTENT, schedule.getContent(), Field.Store.NO));
+        writer.updateDocument(new Term(ID, schedule.getId().toString()), document);
+    }
+
+    private void commitIndex() {
+        try {
+            if (pending.isEmpty() && failedIds.isEmpty()) { // 대기 중이거나 실패한 변경이 없을 때만 반영 기준 시각을 앞당김
+                watermark = LocalDateTime.now().minusMinutes(WATERMARK_MARGIN_MINUTES);
+            }
+            if (watermark != null) {
+                writer.setLiveCommitData(Map.of(WATERMARK, watermark.toString()).entrySet());
+            }
+            writer.commit();
+        } catch (IOException e) {
+            log.warn("검색 색인 저장 실패", e);
+        }
+    }
+
+    private LocalDateTime readWatermark() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (WATERMARK.equals(entry.getKey())) {
+                    return LocalDateTime.parse(entry.getValue());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 검색어를 형태소 단위로 나누어 제목/내용 중 하나라도 일치하면 검색되도록 구성
+     * - 입력 중인 마지막 단어는 접두어로도 검색
+     */
+    private Query buildQuery(String keyword) throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        try (TokenStream tokens = analyzer.tokenStream(CONTENT, keyword)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                addClause(builder, new TermQuery(new Term(TITLE, term.toString())), new TermQuery(new Term(CONTENT, term.toString())));
+            }
+            tokens.end();
+        }
+
+        String[] words = keyword.trim().toLowerCase().split("\\s+");
+        String lastWord = words[words.length - 1];
+        if (!lastWord.isEmpty()) {
+            addClause(builder, new PrefixQuery(new Term(TITLE, lastWord)), new PrefixQuery(new Term(CONTENT, lastWord)));
+        }
+        return builder.build();
+    }
+
+    private void addClause(BooleanQuery.Builder builder, Query titleQuery, Query contentQuery) {
+        builder.add(new BoostQuery(titleQuery, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        builder.add(contentQuery, BooleanClause.Occur.SHOULD);
+    }
+}
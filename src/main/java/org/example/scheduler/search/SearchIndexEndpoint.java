@@ -0,0 +1,29 @@
+package org.example.scheduler.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 검색 색인 관리용 actuator 엔드포인트 (관리 포트의 POST /actuator/searchindex)
+ * - 전체 테이블을 다시 읽는 작업이므로 서비스 포트에는 노출하지 않음
+ */
+@Component
+@Endpoint(id = "searchindex")
+@RequiredArgsConstructor
+public class SearchIndexEndpoint {
+    private final ScheduleSearchIndex scheduleSearchIndex;
+
+    /**
+     * 검색 색인을 DB 기준으로 다시 생성 (비동기)
+     *
+     * @return 새로 예약했는지 여부 (이미 대기/진행 중이면 false)
+     */
+    @WriteOperation
+    public Map<String, Boolean> rebuild() {
+        return Map.of("scheduled", scheduleSearchIndex.rebuild());
+    }
+}
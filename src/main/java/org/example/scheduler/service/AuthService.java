@@ -0,0 +1,125 @@
+package org.example.scheduler.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.example.scheduler.auth.AuthMode;
+import org.example.scheduler.auth.TokenClaims;
+import org.example.scheduler.auth.TokenProvider;
+import org.example.scheduler.auth.TokenRevocationStore;
+import org.example.scheduler.dto.login.LoginRequestDto;
+import org.example.scheduler.dto.login.LoginResponseDto;
+import org.example.scheduler.event.UserDeletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * 로그인 상태 유지 방식(세션/토큰)에 따른 로그인, 로그아웃, 요청 인증 처리
+ * - scheduler.auth.mode 설정으로 방식 선택 (기본 session)
+ */
+@Service
+public class AuthService {
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthMode mode;
+    private final UserService userService;
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    public AuthService(@Value("${scheduler.auth.mode:session}") String mode,
+                       UserService userService,
+                       TokenProvider tokenProvider,
+                       TokenRevocationStore tokenRevocationStore) {
+        this.mode = AuthMode.from(mode);
+        this.userService = userService;
+        this.tokenProvider = tokenProvider;
+        this.tokenRevocationStore = tokenRevocationStore;
+
+        if (this.mode == AuthMode.TOKEN && !tokenProvider.hasSigningKey()) {
+            throw new IllegalStateException("토큰 인증 모드에는 scheduler.auth.token.keys 설정이 필요합니다.");
+        }
+    }
+
+    /**
+     * 로그인
+     * - 세션 모드: 세션에 userId 저장 후 null 반환
+     * - 토큰 모드: 서명된 토큰 발급 (서버에 상태를 남기지 않음)
+     *
+     * @param loginRequestDto 로그인 요청 정보
+     * @param request 세션 모드에서 세션을 생성할 요청
+     * @return 발급된 토큰 (세션 모드는 null)
+     */
+    public LoginResponseDto login(LoginRequestDto loginRequestDto, HttpServletRequest request) {
+        Long userId = userService.authenticate(loginRequestDto);
+
+        if (mode == AuthMode.SESSION) {
+            request.getSession().setAttribute(USER_ID_ATTRIBUTE, userId);
+            return null;
+        }
+
+        Instant issuedAt = Instant.now();
+        String token = tokenProvider.issue(userId, issuedAt);
+        return new LoginResponseDto(token, BEARER_PREFIX.trim(), issuedAt.plus(tokenProvider.getTtl()));
+    }
+
+    /**
+     * 로그아웃
+     * - 세션이 있으면 무효화하고, 토큰 모드에서는 요청의 토큰을 만료 전까지 무효화 목록에 등록
+     *
+     * @param request 로그아웃 요청
+     */
+    public void logout(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+
+        if (mode == AuthMode.TOKEN) {
+            TokenClaims claims = verifyBearerToken(request);
+            if (claims != null) {
+                tokenRevocationStore.revokeToken(claims);
+            }
+        }
+    }
+
+    /**
+     * 요청의 로그인 유저 ID 확인
+     *
+     * @param request 요청
+     * @return 로그인 유저 ID (로그인하지 않았거나 토큰이 유효하지 않으면 null)
+     */
+    public Long resolveUserId(HttpServletRequest request) {
+        if (mode == AuthMode.SESSION) {
+            HttpSession session = request.getSession(false);
+            return (session == null) ? null : (Long) session.getAttribute(USER_ID_ATTRIBUTE);
+        }
+
+        TokenClaims claims = verifyBearerToken(request);
+        if (claims == null || tokenRevocationStore.isRevoked(claims)) {
+            return null;
+        }
+        return claims.getUserId();
+    }
+
+    /**
+     * 유저 삭제가 커밋되면 해당 유저에게 발급된 토큰을 모두 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (mode == AuthMode.TOKEN) {
+            tokenRevocationStore.revokeUser(event.getUserId(), tokenProvider.getTtl());
+        }
+    }
+
+    private TokenClaims verifyBearerToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return tokenProvider.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.scheduler.service;
+
+import org.example.scheduler.dto.change.ChangeFeedResponseDto;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.common.ChangeToken;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.entity.ChangeLog;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.example.scheduler.repository.ChangeLogRepository;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 변경 피드 조회 서비스
+ * - since 토큰 이후의 변경 기록만 읽고, 바뀐 일정/댓글의 현재 상태만 조회하여 변경량에 비례하는 비용으로 동기화
+ * - 조회되지 않는 항목은 삭제된 것으로 응답
+ */
+@Service
+public class ChangeFeedService {
+    private final ChangeLogRepository changeLogRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final Duration settleLag;
+    private final Duration retention;
+
+    public ChangeFeedService(ChangeLogRepository changeLogRepository,
+                             ScheduleRepository scheduleRepository,
+                             CommentRepository commentRepository,
+                             @Value("${scheduler.change-feed.settle-lag:5s}") Duration settleLag,
+                             @Value("${scheduler.change-feed.retention:7d}") Duration retention) {
+        this.changeLogRepository = changeLogRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.settleLag = settleLag;
+        this.retention = retention;
+    }
+
+    /**
+     * since 토큰 이후의 변경 조회
+     * - 토큰 없이 요청하면 변경 없이 현재 위치의 토큰만 반환 (토큰을 받은 뒤 전체 목록을 조회하고 이후 변경을 이어서 조회)
+     *
+     * @param since 이전 응답의 nextToken
+     * @param limit 한 번에 읽는 최대 변경 기록 수
+     * @return 변경된 일정/댓글과 다음 토큰
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedResponseDto getChanges(String since, int limit) {
+        if (limit <= 0 || limit > 1000) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAM);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime settledBefore = now.minus(settleLag); // 커밋이 늦은 작은 ID를 건너뛰지 않도록 최근 기록은 다음 요청으로 미룸
+
+        ChangeToken token = ChangeToken.decode(since);
+        if (token == null) {
+            Long maxId = changeLogRepository.findMaxSettledId(settledBefore);
+            return new ChangeFeedResponseDto(List.of(), List.of(), List.of(), List.of(),
+                    ChangeToken.of(maxId == null ? 0 : maxId, settledBefore).encode(), false);
+        }
+        // 읽지 않은 기록은 토큰 위치보다 settle-lag만큼 이르게 기록되었을 수 있으므로 그만큼 여유를 두고 판단
+        if (token.getChangedAt().minus(settleLag).isBefore(now.minus(retention))) {
+            throw new CustomException(ErrorCode.CHANGE_TOKEN_EXPIRED);
+        }
+
+        List<ChangeLog> changes = changeLogRepository.findSettledAfter(token.getChangeId(), settledBefore, PageRequest.of(0, limit));
+
+        Set<Long> scheduleIds = new LinkedHashSet<>();
+        Set<Long> commentIds = new LinkedHashSet<>();
+        for (ChangeLog change : changes) {
+            if (change.getEntityType() == ChangeLog.EntityType.SCHEDULE) {
+                scheduleIds.add(change.getEntityId());
+            } else {
+                commentIds.add(change.getEntityId());
+            }
+        }
+
+        List<SchedulePageResponseDto> schedules = scheduleIds.isEmpty() ? List.of() : scheduleRepository.findPageResponsesByIdIn(scheduleIds);
+        List<CommentResponseDto> comments = commentIds.isEmpty() ? List.of() : commentRepository.findResponsesByIdIn(commentIds);
+        schedules.forEach(schedule -> scheduleIds.remove(schedule.getId()));
+        comments.forEach(comment -> commentIds.remove(comment.getId()));
+
+        // 더 남아 있으면 마지막으로 전달한 기록의 시각, 끝까지 읽었으면 settle-lag 이전까지 모두 읽은 것으로 표시
+        boolean hasMore = changes.size() == limit;
+        ChangeToken nextToken;
+        if (hasMore) {
+            ChangeLog last = changes.get(changes.size() - 1);
+            nextToken = ChangeToken.of(last.getId(), last.getChangedAt());
+        } else {
+            long lastChangeId = changes.isEmpty() ? token.getChangeId() : changes.get(changes.size() - 1).getId();
+            nextToken = ChangeToken.of(lastChangeId, settledBefore);
+        }
+        return new ChangeFeedResponseDto(schedules, new ArrayList<>(scheduleIds), comments, new ArrayList<>(commentIds),
+                nextToken.encode(), hasMore);
+    }
+
+    /**
+     * 현재 변경 기록 위치 조회 (일정 목록 ETag 계산용)
+     * - 가장 큰 ID만 쓰면 더 작은 ID가 늦게 커밋될 때 변경을 놓치므로, settle-lag 이전의 마지막 기록도 함께 사용
+     *   (늦게 커밋된 기록도 settle-lag이 지나면 값이 바뀜)
+     *
+     * @return 가장 큰 변경 기록 ID와 settle-lag 이전의 마지막 변경 기록 ID
+     */
+    @Transactional(readOnly = true)
+    public String getVersion() {
+        Long maxId = changeLogRepository.findMaxId();
+        List<Long> settledIds = changeLogRepository.findLatestSettledIds(LocalDateTime.now().minus(settleLag), PageRequest.of(0, 1));
+        return maxId + ":" + (settledIds.isEmpty() ? null : settledIds.get(0));
+    }
+}
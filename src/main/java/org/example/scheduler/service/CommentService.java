@@ -4,17 +4,22 @@ import lombok.RequiredArgsConstructor;
 import org.example.scheduler.dto.comment.CommentRequestDto;
 import org.example.scheduler.dto.comment.CommentResponseDto;
 import org.example.scheduler.dto.comment.CommentUpdateRequestDto;
+import org.example.scheduler.dto.common.Cursor;
+import org.example.scheduler.dto.common.CursorPageResponseDto;
 import org.example.scheduler.entity.Comment;
 import org.example.scheduler.entity.Schedule;
 import org.example.scheduler.entity.User;
 import org.example.scheduler.error.CustomException;
 import org.example.scheduler.error.ErrorCode;
+import org.example.scheduler.event.CommentChangedEvent;
 import org.example.scheduler.repository.CommentRepository;
 import org.example.scheduler.repository.ScheduleRepository;
 import org.example.scheduler.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -24,9 +29,12 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int LIST_LIMIT = 100; // 커서 없이 조회하는 댓글 목록 최대 건수
+
     private final CommentRepository commentRepository;
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 저장
@@ -44,20 +52,40 @@ public class CommentService {
         comment.setSchedule(schedule);
 
         commentRepository.save(comment);
+        scheduleRepository.increaseCommentCount(scheduleId);
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.CREATED, scheduleId, comment.getId()));
         return CommentResponseDto.from(comment);
     }
 
     /**
      * 특정 일정의 댓글 목록 조회
+     * - 댓글 수와 관계없이 최신 LIST_LIMIT건만 반환하며, 그 이후는 커서 기반 조회로 읽음
+     *
+     * @return 댓글 목록과 다음 페이지 커서 (최신 수정일 순 정렬, 남은 댓글이 없으면 커서는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> getCommentsByScheduleId(Long scheduleId) {
+        validateScheduleExists(scheduleId);
+        List<CommentResponseDto> rows = commentRepository.findResponsePage(scheduleId, null, LIST_LIMIT + 1); // 잘렸는지 확인을 위해 1건 더 조회
+        return CursorPageResponseDto.of(rows, LIST_LIMIT, row -> Cursor.of(row.getModifiedAt(), row.getId()));
+    }
+
+    /**
+     * 특정 일정의 댓글 커서 기반 조회
      *
-     * @return 댓글 목록 응답 DTO (최신 수정일 순 정렬)
+     * @param scheduleId 일정 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 댓글 목록과 다음 페이지 커서 (최신 수정일 순 정렬)
      */
     @Transactional(readOnly = true)
-    public List<CommentResponseDto> getCommentsByScheduleId(Long scheduleId) {
-        return commentRepository.findByScheduleIdOrderByModifiedAtDesc(scheduleId) // 최신 수정일 기준 내림차순 정렬
-                .stream()
-                .map(CommentResponseDto::from)
-                .toList();
+    public CursorPageResponseDto<CommentResponseDto> getCommentsByCursor(Long scheduleId, String cursor, int size) {
+        if (size <= 0 || size > 100) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAM);
+        }
+        validateScheduleExists(scheduleId);
+        List<CommentResponseDto> rows = commentRepository.findResponsePage(scheduleId, Cursor.decode(cursor), size + 1); // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        return CursorPageResponseDto.of(rows, size, row -> Cursor.of(row.getModifiedAt(), row.getId()));
     }
 
     /**
@@ -69,6 +97,7 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public CommentResponseDto getCommentById(Long scheduleId, Long commentId) {
+        validateScheduleExists(scheduleId);
         Comment comment = commentRepository.findByIdOrElseThrow(commentId);
 
         if(!comment.getSchedule().getId().equals(scheduleId)){
@@ -88,21 +117,26 @@ public class CommentService {
      */
     @Transactional
     public CommentResponseDto updateComment(Long scheduleId, Long commentId, Long sessionUserId, CommentUpdateRequestDto commentUpdateRequestDto) {
-        Comment comment = commentRepository.findByIdOrElseThrow(commentId);
-
-        if(!comment.getSchedule().getId().equals(scheduleId)){
-            throw new CustomException(ErrorCode.COMMENT_SCHEDULE_MISMATCH);
-        }
-        if(!comment.getUser().getId().equals(sessionUserId)){
-            throw new CustomException(ErrorCode.FORBIDDEN_NOT_OWNER, "본인이 작성한 댓글만 수정할 수 있습니다.");
+        int updated = commentRepository.updateIfOwned(scheduleId, commentId, sessionUserId, commentUpdateRequestDto.getVersion(),
+                commentUpdateRequestDto.getContent(), LocalDateTime.now());
+
+        if (updated == 0) {
+            // 변경된 행이 없을 때만 원인 구분
+            validateScheduleExists(scheduleId);
+            CommentResponseDto comment = commentRepository.findResponseById(commentId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
+            if (!comment.getScheduleId().equals(scheduleId)) {
+                throw new CustomException(ErrorCode.COMMENT_SCHEDULE_MISMATCH);
+            }
+            if (!comment.getUserId().equals(sessionUserId)) {
+                throw new CustomException(ErrorCode.FORBIDDEN_NOT_OWNER, "본인이 작성한 댓글만 수정할 수 있습니다.");
+            }
+            throw new CustomException(ErrorCode.COMMENT_VERSION_CONFLICT);
         }
 
-        if(commentUpdateRequestDto.getContent()!=null){
-            comment.updateContent(commentUpdateRequestDto.getContent());
-        }
-
-        commentRepository.flush(); // 반환 comment에 modifiedAt 반영되도록 flush
-        return CommentResponseDto.from(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.UPDATED, scheduleId, commentId));
+        // 수정한 행은 이 트랜잭션이 잠그고 있으므로 다시 읽어도 다른 수정이 끼어들지 않음 (MySQL은 UPDATE ... RETURNING 미지원)
+        return commentRepository.findResponseById(commentId).orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
     }
 
     /**
@@ -113,14 +147,31 @@ public class CommentService {
      */
     @Transactional
     public void deleteComment(Long scheduleId, Long commentId, Long sessionUserId) {
-        Comment comment = commentRepository.findByIdOrElseThrow(commentId);
-
-        if(!comment.getSchedule().getId().equals(scheduleId)){
-            throw new CustomException(ErrorCode.COMMENT_SCHEDULE_MISMATCH);
-        }
-        if(!comment.getUser().getId().equals(sessionUserId)){
+        // 실제 삭제는 TombstoneReaperJob이 처리
+        int deleted = commentRepository.markDeletedIfOwned(scheduleId, commentId, sessionUserId, LocalDateTime.now());
+        if (deleted == 0) {
+            // 변경된 행이 없을 때만 원인 구분
+            validateScheduleExists(scheduleId);
+            CommentResponseDto comment = commentRepository.findResponseById(commentId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
+            if (!comment.getScheduleId().equals(scheduleId)) {
+                throw new CustomException(ErrorCode.COMMENT_SCHEDULE_MISMATCH);
+            }
             throw new CustomException(ErrorCode.FORBIDDEN_NOT_OWNER, "본인이 작성한 댓글만 삭제할 수 있습니다.");
         }
-        commentRepository.delete(comment);
+        scheduleRepository.decreaseCommentCount(scheduleId);
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.DELETED, scheduleId, commentId));
+    }
+
+    /**
+     * 일정 존재 여부 검증
+     * - 삭제 표시된 일정의 댓글은 남아 있어도 조회/수정되지 않도록 함
+     *
+     * @throws CustomException 일정이 없거나 삭제되었으면 404 반환
+     */
+    private void validateScheduleExists(Long scheduleId) {
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new CustomException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
     }
 }
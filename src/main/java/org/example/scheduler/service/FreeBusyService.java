@@ -0,0 +1,65 @@
+package org.example.scheduler.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.freebusy.FreeBusyResponseDto;
+import org.example.scheduler.dto.freebusy.UserFreeBusyDto;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 여러 유저의 free/busy(바쁜 구간)와 일정 겹침을 계산하는 서비스
+ * - 유저마다 기간 조회 인덱스로 [from, to)와 겹치는 일정(반복 일정은 발생)만 읽고, sweep-line으로 합침
+ * - 일정 제목/내용은 응답하지 않고 시각과 일정 ID만 응답
+ */
+@Service
+@RequiredArgsConstructor
+public class FreeBusyService {
+    private static final int MAX_USERS = 20;
+    private static final int MAX_SCHEDULES_PER_USER = 5_000;   // 유저별로 계산하는 일정(발생) 최대 건수
+
+    private final ScheduleService scheduleService;
+
+    /**
+     * 유저별/전체 바쁜 구간과 유저별 일정 겹침 조회
+     *
+     * @param userIds 유저 ID 목록 (중복 제거, 요청 순서 유지)
+     * @param from 조회 시작 시각 (포함)
+     * @param to 조회 종료 시각 (제외)
+     * @return free/busy 조회 결과 (구간은 [from, to)로 잘라서 응답)
+     * @throws CustomException 유저 수가 범위를 벗어나거나 기간이 올바르지 않거나, 기간 안의 일정이 너무 많아 일부만 계산하게 되면 400 반환
+     */
+    @Transactional(readOnly = true)
+    public FreeBusyResponseDto getFreeBusy(List<Long> userIds, LocalDateTime from, LocalDateTime to) {
+        LinkedHashSet<Long> targetIds = new LinkedHashSet<>(userIds);
+        if (targetIds.isEmpty() || targetIds.size() > MAX_USERS) {
+            throw new CustomException(ErrorCode.INVALID_FREE_BUSY_USERS);
+        }
+
+        List<IntervalSweep.Interval> all = new ArrayList<>();
+        List<UserFreeBusyDto> users = new ArrayList<>(targetIds.size());
+        for (Long userId : targetIds) {
+            // 잘린 결과로 계산하면 기간 뒤쪽이 비어 있는 것으로 응답되므로 1건 더 읽어 잘렸으면 실패 처리
+            List<SchedulePageResponseDto> schedules = scheduleService.getSchedulesInRange(userId, from, to, MAX_SCHEDULES_PER_USER + 1);
+            if (schedules.size() > MAX_SCHEDULES_PER_USER) {
+                throw new CustomException(ErrorCode.FREE_BUSY_TOO_MANY_SCHEDULES);
+            }
+            List<IntervalSweep.Interval> intervals = new ArrayList<>(schedules.size());
+            for (SchedulePageResponseDto schedule : schedules) {
+                LocalDateTime startAt = schedule.getStartAt().isBefore(from) ? from : schedule.getStartAt();
+                LocalDateTime endAt = schedule.getEndAt().isAfter(to) ? to : schedule.getEndAt();
+                intervals.add(new IntervalSweep.Interval(startAt, endAt, schedule.getId()));
+            }
+            users.add(new UserFreeBusyDto(userId, IntervalSweep.merge(intervals), IntervalSweep.conflicts(intervals)));
+            all.addAll(intervals);
+        }
+        return new FreeBusyResponseDto(from, to, IntervalSweep.merge(all), users);
+    }
+}
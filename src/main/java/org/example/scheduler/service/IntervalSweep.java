@@ -0,0 +1,127 @@
+package org.example.scheduler.service;
+
+import org.example.scheduler.dto.freebusy.BusyIntervalDto;
+import org.example.scheduler.dto.freebusy.ConflictDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * [startAt, endAt) 구간 목록을 시작/종료 시각 순으로 한 번 훑어(sweep-line) 합치거나 겹침을 찾는 계산
+ * - 정렬 O(n log n) 후 선형으로 처리하며, 맞닿은 구간([a, b), [b, c))은 겹치지 않지만 바쁜 구간으로는 이어서 합침
+ */
+final class IntervalSweep {
+    private IntervalSweep() {
+    }
+
+    /**
+     * 일정 한 건(반복 일정은 발생 한 건)의 구간
+     */
+    record Interval(LocalDateTime startAt, LocalDateTime endAt, Long scheduleId) {
+    }
+
+    /**
+     * 겹치거나 맞닿은 구간을 합친 바쁜 구간
+     *
+     * @param intervals 구간 목록
+     * @return 서로 떨어진 바쁜 구간 (시작 시각 순)
+     */
+    static List<BusyIntervalDto> merge(List<Interval> intervals) {
+        List<Interval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(Interval::startAt));
+
+        List<BusyIntervalDto> merged = new ArrayList<>();
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        for (Interval interval : sorted) {
+            if (start != null && !interval.startAt().isAfter(end)) {
+                if (interval.endAt().isAfter(end)) {
+                    end = interval.endAt();
+                }
+                continue;
+            }
+            if (start != null) {
+                merged.add(new BusyIntervalDto(start, end));
+            }
+            start = interval.startAt();
+            end = interval.endAt();
+        }
+        if (start != null) {
+            merged.add(new BusyIntervalDto(start, end));
+        }
+        return merged;
+    }
+
+    /**
+     * 두 개 이상의 구간이 동시에 걸쳐 있는 구간 (걸친 일정이 같은 연속 구간은 하나로 합침)
+     *
+     * @param intervals 구간 목록
+     * @return 겹치는 구간 (시작 시각 순)
+     */
+    static List<ConflictDto> conflicts(List<Interval> intervals) {
+        List<Event> events = new ArrayList<>(intervals.size() * 2);
+        for (Interval interval : intervals) {
+            events.add(new Event(interval.startAt(), true, interval.scheduleId()));
+            events.add(new Event(interval.endAt(), false, interval.scheduleId()));
+        }
+        // 같은 시각이면 종료를 먼저 처리하여 맞닿은 구간은 겹침으로 보지 않음
+        events.sort(Comparator.comparing(Event::at).thenComparing(Event::start));
+
+        List<ConflictDto> conflicts = new ArrayList<>();
+        TreeMap<Long, Integer> active = new TreeMap<>();   // 걸쳐 있는 일정 ID → 구간 수 (반복 일정은 발생끼리 겹칠 수 있음)
+        int activeCount = 0;
+        LocalDateTime previous = null;
+        for (Event event : events) {
+            if (activeCount >= 2 && event.at().isAfter(previous)) {
+                List<Long> scheduleIds = List.copyOf(active.keySet());
+                ConflictDto last = conflicts.isEmpty() ? null : conflicts.get(conflicts.size() - 1);
+                if (last != null && last.getEndAt().equals(previous) && last.getScheduleIds().equals(scheduleIds)) {
+                    conflicts.set(conflicts.size() - 1, new ConflictDto(last.getStartAt(), event.at(), scheduleIds));
+                } else {
+                    conflicts.add(new ConflictDto(previous, event.at(), scheduleIds));
+                }
+            }
+            if (event.start()) {
+                active.merge(event.scheduleId(), 1, Integer::sum);
+                activeCount++;
+            } else {
+                active.computeIfPresent(event.scheduleId(), (id, count) -> count == 1 ? null : count - 1);
+                activeCount--;
+            }
+            previous = event.at();
+        }
+        return conflicts;
+    }
+
+    /**
+     * 후보 구간 중 하나라도 바쁜 구간과 겹치는지 확인 (두 목록을 앞에서부터 한 번씩만 훑음)
+     *
+     * @param candidates 후보 구간 (시작 시각 순)
+     * @param busy merge 결과 (시작 시각 순, 서로 떨어져 있음)
+     * @return 겹치면 true
+     */
+    static boolean overlapsAny(List<Interval> candidates, List<BusyIntervalDto> busy) {
+        int index = 0;
+        for (Interval candidate : candidates) {
+            while (index < busy.size() && !busy.get(index).getEndAt().isAfter(candidate.startAt())) {
+                index++;
+            }
+            if (index == busy.size()) {
+                return false;
+            }
+            if (busy.get(index).getStartAt().isBefore(candidate.endAt())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 구간 시작/종료 이벤트
+     */
+    private record Event(LocalDateTime at, boolean start, Long scheduleId) {
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.scheduler.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.reminder.ReminderRequestDto;
+import org.example.scheduler.dto.reminder.ReminderResponseDto;
+import org.example.scheduler.entity.RecurrenceRule;
+import org.example.scheduler.entity.Reminder;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.example.scheduler.event.ReminderChangedEvent;
+import org.example.scheduler.repository.ReminderRepository;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일정 알림 관련 비즈니스 로직을 처리하는 서비스
+ * - 알림 등록, 조회, 삭제와 일정 수정/삭제에 따른 재예약/취소 기능 제공
+ * - 전송은 ReminderDispatcher가 커밋 후 이벤트를 받아 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class ReminderService {
+    private static final int MAX_REMINDERS_PER_SCHEDULE = 5;
+
+    private final ReminderRepository reminderRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 알림 등록
+     *
+     * @param scheduleId 일정 ID
+     * @param sessionUserId 세션 유저 ID
+     * @param reminderRequestDto 알림 등록 요청 데이터
+     * @return 등록된 알림 응답 DTO
+     * @throws CustomException 본인 일정이 아니면 403, 시작 시각이 없거나 이미 지났거나 알림이 너무 많으면 400 반환
+     */
+    @Transactional
+    public ReminderResponseDto addReminder(Long scheduleId, Long sessionUserId, ReminderRequestDto reminderRequestDto) {
+        Schedule schedule = findOwnedSchedule(scheduleId, sessionUserId);
+        if (schedule.getStartAt() == null) {
+            throw new CustomException(ErrorCode.INVALID_REMINDER, "시작 시각이 있는 일정에만 알림을 등록할 수 있습니다.");
+        }
+        if (reminderRepository.countByScheduleIdAndStatus(scheduleId, Reminder.Status.PENDING) >= MAX_REMINDERS_PER_SCHEDULE) {
+            throw new CustomException(ErrorCode.INVALID_REMINDER, "일정 하나에 알림은 최대 " + MAX_REMINDERS_PER_SCHEDULE + "개까지 등록할 수 있습니다.");
+        }
+
+        int offsetMinutes = reminderRequestDto.getOffsetMinutes();
+        LocalDateTime fireAt = nextFireAt(schedule.getStartAt(), schedule.getRecurrence(), offsetMinutes);
+        if (fireAt == null) {
+            throw new CustomException(ErrorCode.INVALID_REMINDER, "알림 시각이 이미 지났습니다.");
+        }
+
+        Reminder reminder = reminderRepository.save(new Reminder(scheduleId, offsetMinutes, fireAt));
+        eventPublisher.publishEvent(new ReminderChangedEvent(ReminderChangedEvent.Type.SCHEDULED, reminder.getId(), fireAt));
+        return ReminderResponseDto.from(reminder);
+    }
+
+    /**
+     * 일정의 알림 목록 조회 (취소된 알림 제외)
+     *
+     * @param scheduleId 일정 ID
+     * @param sessionUserId 세션 유저 ID
+     * @return 알림 목록 (발송 시각 순)
+     */
+    @Transactional(readOnly = true)
+    public List<ReminderResponseDto> getReminders(Long scheduleId, Long sessionUserId) {
+        findOwnedSchedule(scheduleId, sessionUserId);
+        return reminderRepository.findResponsesByScheduleId(scheduleId);
+    }
+
+    /**
+     * 알림 취소
+     *
+     * @param scheduleId 일정 ID
+     * @param reminderId 알림 ID
+     * @param sessionUserId 세션 유저 ID
+     */
+    @Transactional
+    public void deleteReminder(Long scheduleId, Long reminderId, Long sessionUserId) {
+        findOwnedSchedule(scheduleId, sessionUserId);
+        Reminder reminder = reminderRepository.findByIdOrElseThrow(reminderId);
+        if (!reminder.getScheduleId().equals(scheduleId) || reminder.getStatus() == Reminder.Status.CANCELLED) {
+            throw new CustomException(ErrorCode.REMINDER_NOT_FOUND);
+        }
+        reminder.cancel();
+        eventPublisher.publishEvent(new ReminderChangedEvent(ReminderChangedEvent.Type.CANCELLED, reminderId, null));
+    }
+
+    /**
+     * 일정 시각/반복 규칙이 바뀌면 대기 중인 알림의 발송 시각 재계산 (일정 수정과 같은 트랜잭션)
+     * - 새 시각 기준으로 이미 지난 알림은 취소
+     *
+     * @param scheduleId 일정 ID
+     * @param startAt 수정된 시작 시각
+     * @param recurrence 수정된 반복 규칙
+     */
+    @Transactional
+    public void rescheduleForSchedule(Long scheduleId, LocalDateTime startAt, RecurrenceRule recurrence) {
+        for (Reminder reminder : reminderRepository.findByScheduleIdAndStatus(scheduleId, Reminder.Status.PENDING)) {
+            LocalDateTime fireAt = nextFireAt(startAt, recurrence, reminder.getOffsetMinutes());
+            if (fireAt == null) {
+                reminder.cancel();
+                eventPublisher.publishEvent(new ReminderChangedEvent(ReminderChangedEvent.Type.CANCELLED, reminder.getId(), null));
+            } else {
+                reminder.reschedule(fireAt);
+                eventPublisher.publishEvent(new ReminderChangedEvent(ReminderChangedEvent.Type.SCHEDULED, reminder.getId(), fireAt));
+            }
+        }
+    }
+
+    /**
+     * 일정이 삭제되면 대기 중인 알림 취소 (일정 삭제와 같은 트랜잭션)
+     *
+     * @param scheduleId 일정 ID
+     */
+    @Transactional
+    public void cancelForSchedule(Long scheduleId) {
+        for (Reminder reminder : reminderRepository.findByScheduleIdAndStatus(scheduleId, Reminder.Status.PENDING)) {
+            reminder.cancel();
+            eventPublisher.publishEvent(new ReminderChangedEvent(ReminderChangedEvent.Type.CANCELLED, reminder.getId(), null));
+        }
+    }
+
+    private Schedule findOwnedSchedule(Long scheduleId, Long sessionUserId) {
+        Schedule schedule = scheduleRepository.findByIdOrElseThrow(scheduleId);
+        if (!schedule.getUser().getId().equals(sessionUserId)) {
+            throw new CustomException(ErrorCode.FORBIDDEN_NOT_OWNER, "본인이 작성한 일정의 알림만 관리할 수 있습니다.");
+        }
+        return schedule;
+    }
+
+    /**
+     * 지금 이후 첫 발송 시각 (반복 일정은 발송 시각이 지나지 않은 첫 발생 기준)
+     *
+     * @return 발송 시각 (없으면 null)
+     */
+    private static LocalDateTime nextFireAt(LocalDateTime startAt, RecurrenceRule recurrence, int offsetMinutes) {
+        LocalDateTime now = LocalDateTime.now();
+        if (recurrence == null) {
+            LocalDateTime fireAt = startAt.minusMinutes(offsetMinutes);
+            return fireAt.isBefore(now) ? null : fireAt;
+        }
+        LocalDateTime next = recurrence.nextOccurrence(startAt, now.plusMinutes(offsetMinutes));
+        return (next == null) ? null : next.minusMinutes(offsetMinutes);
+    }
+}
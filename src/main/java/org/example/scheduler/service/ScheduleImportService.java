@@ -0,0 +1,311 @@
+package org.example.scheduler.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.example.scheduler.dto.schedule.ScheduleImportRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleImportResponseDto;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.example.scheduler.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 일괄 가져오기(NDJSON) 처리 서비스
+ * - 요청 본문을 한 줄씩 읽어 검증하고, 일정 수(batch-size)와 일정 + 댓글 수(max-batch-entities) 중 먼저 차는 쪽 기준의 배치 단위 트랜잭션으로 저장
+ * - 요청 스레드가 다음 배치를 파싱하는 동안 저장 스레드가 이전 배치를 저장하여 DB 쓰기가 쉬지 않도록 함
+ * - 동시에 메모리에 있는 배치는 요청당 최대 2개이므로 파일 크기와 무관하게 메모리 사용량이 일정
+ * - 저장 대기열은 크기가 정해져 있어, 가득 차면 요청 스레드가 직접 저장하며 유입 속도를 늦춤
+ */
+@Service
+public class ScheduleImportService {
+    private static final int MAX_LINE_LENGTH = 256 * 1024;  // 한 줄 최대 길이 (초과 시 해당 줄 실패 처리)
+    private static final int MAX_REPORTED_ERRORS = 1_000;   // 응답에 포함하는 실패 사유 최대 개수
+
+    private final ScheduleService scheduleService;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final ObjectReader jsonReader;
+    private final int batchSize;
+    private final int maxBatchEntities;
+    private final ThreadPoolExecutor writerExecutor;
+
+    public ScheduleImportService(ScheduleService scheduleService,
+                                 UserRepository userRepository,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 @Value("${scheduler.import.batch-size:500}") int batchSize,
+                                 @Value("${scheduler.import.max-batch-entities:5000}") int maxBatchEntities,
+                                 @Value("${scheduler.import.writer-threads:4}") int writerThreads,
+                                 @Value("${scheduler.import.queue-capacity:8}") int queueCapacity) {
+        this.scheduleService = scheduleService;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.jsonReader = objectMapper.readerFor(ScheduleImportRequestDto.class);
+        this.batchSize = batchSize;
+        this.maxBatchEntities = maxBatchEntities;
+        this.writerExecutor = new ThreadPoolExecutor(
+                writerThreads, writerThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("schedule-import-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerExecutor.shutdown();
+    }
+
+    /**
+     * NDJSON 본문의 일정(및 댓글)을 일괄 저장
+     *
+     * @param body 요청 본문 (한 줄에 일정 하나)
+     * @param userId 작성자 ID
+     * @return 처리 결과 및 줄별 실패 사유
+     */
+    public ScheduleImportResponseDto importSchedules(InputStream body, Long userId) throws IOException {
+        userRepository.findByIdOrElseThrow(userId);
+
+        ImportReport report = new ImportReport();
+        LineReader lines = new LineReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<ImportLine> batch = new ArrayList<>(batchSize);
+        int batchEntities = 0;  // 배치의 일정 + 댓글 수
+        Future<?> inFlight = null;
+
+        while (lines.next()) {
+            if (lines.isBlank()) {
+                continue;
+            }
+            long lineNumber = lines.getLineNumber();
+            report.countLine();
+
+            ScheduleImportRequestDto dto = parse(lines, report);
+            if (dto == null) {
+                continue;
+            }
+            int entities = 1 + (dto.getComments() == null ? 0 : dto.getComments().size());
+            if (!batch.isEmpty() && batchEntities + entities > maxBatchEntities) {
+                await(inFlight); // 이전 배치 저장이 끝나야 다음 배치를 넘김 (메모리 상한 유지)
+                inFlight = submit(batch, userId, report);
+                batch = new ArrayList<>(batchSize);
+                batchEntities = 0;
+            }
+            batch.add(new ImportLine(lineNumber, dto));
+            batchEntities += entities;
+
+            if (batch.size() >= batchSize) {
+                await(inFlight);
+                inFlight = submit(batch, userId, report);
+                batch = new ArrayList<>(batchSize);
+                batchEntities = 0;
+            }
+        }
+
+        await(inFlight);
+        if (!batch.isEmpty()) {
+            await(submit(batch, userId, report));
+        }
+        return report.toResponse();
+    }
+
+    private ScheduleImportRequestDto parse(LineReader lines, ImportReport report) {
+        long lineNumber = lines.getLineNumber();
+        if (lines.isTruncated()) {
+            report.fail(lineNumber, "한 줄은 최대 " + MAX_LINE_LENGTH + "자까지 가능합니다.");
+            return null;
+        }
+
+        ScheduleImportRequestDto dto;
+        try {
+            dto = jsonReader.readValue(lines.getLine());
+        } catch (JsonProcessingException e) {
+            report.fail(lineNumber, "JSON 형식이 올바르지 않습니다.");
+            return null;
+        }
+
+        Set<ConstraintViolation<ScheduleImportRequestDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+            report.fail(lineNumber, message);
+            return null;
+        }
+        return dto;
+    }
+
+    private Future<?> submit(List<ImportLine> batch, Long userId, ImportReport report) {
+        return writerExecutor.submit(() -> {
+            try {
+                scheduleService.saveImportedSchedules(batch.stream().map(ImportLine::dto).toList(), userId);
+                report.imported(batch.size());
+            } catch (RuntimeException e) {
+                batch.forEach(line -> report.fail(line.lineNumber(), "저장에 실패했습니다."));
+            }
+        });
+    }
+
+    private void await(Future<?> future) {
+        if (future == null) {
+            return;
+        }
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        } catch (ExecutionException e) {
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private record ImportLine(long lineNumber, ScheduleImportRequestDto dto) {
+    }
+
+    /**
+     * 가져오기 진행 결과 (요청 스레드와 저장 스레드가 함께 기록)
+     */
+    private static class ImportReport {
+        private long totalLines;
+        private long importedCount;
+        private long failedCount;
+        private final List<ScheduleImportResponseDto.LineError> errors = new ArrayList<>();
+
+        synchronized void countLine() {
+            totalLines++;
+        }
+
+        synchronized void imported(int count) {
+            importedCount += count;
+        }
+
+        synchronized void fail(long lineNumber, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ScheduleImportResponseDto.LineError(lineNumber, message));
+            }
+        }
+
+        synchronized ScheduleImportResponseDto toResponse() {
+            List<ScheduleImportResponseDto.LineError> sorted = errors.stream()
+                    .sorted(Comparator.comparingLong(ScheduleImportResponseDto.LineError::getLine))
+                    .toList();
+            return new ScheduleImportResponseDto(totalLines, importedCount, failedCount, sorted, failedCount > errors.size());
+        }
+    }
+
+    /**
+     * 최대 길이를 넘는 줄은 잘라서 표시만 하고 버리는 줄 단위 리더
+     * - 아무리 긴 줄이 들어와도 버퍼 크기 + 최대 줄 길이 이상 메모리를 쓰지 않음
+     */
+    private static class LineReader {
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private long lineNumber;
+        private boolean truncated;
+
+        LineReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * 다음 줄을 읽음
+         *
+         * @return 읽은 줄이 있으면 true, 본문 끝이면 false
+         */
+        boolean next() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            boolean readAny = false;
+
+            while (true) {
+                if (position == limit) {
+                    limit = reader.read(buffer, 0, buffer.length);
+                    position = 0;
+                    if (limit == -1) {
+                        limit = 0;
+                        if (!readAny) {
+                            return false;
+                        }
+                        break;
+                    }
+                }
+                readAny = true;
+
+                int newline = -1;
+                for (int i = position; i < limit; i++) {
+                    if (buffer[i] == '\n') {
+                        newline = i;
+                        break;
+                    }
+                }
+                if (newline >= 0) {
+                    append(position, newline);
+                    position = newline + 1;
+                    break;
+                }
+                append(position, limit);
+                position = limit;
+            }
+
+            if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            lineNumber++;
+            return true;
+        }
+
+        private void append(int from, int to) {
+            int length = to - from;
+            int room = MAX_LINE_LENGTH - line.length();
+            if (length > room) {
+                truncated = true;
+                length = room;
+            }
+            line.append(buffer, from, length);
+        }
+
+        String getLine() {
+            return line.toString();
+        }
+
+        boolean isBlank() {
+            return !truncated && line.toString().isBlank();
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        long getLineNumber() {
+            return lineNumber;
+        }
+    }
+}
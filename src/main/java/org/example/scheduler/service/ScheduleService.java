@@ -1,22 +1,45 @@
 package org.example.scheduler.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.scheduler.cache.RecurrenceExpansionCache;
+import org.example.scheduler.cache.ScheduleCountCache;
+import org.example.scheduler.cache.ScheduleDetailCache;
+import org.example.scheduler.dto.comment.CommentRequestDto;
 import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.common.Cursor;
+import org.example.scheduler.dto.common.CursorPageResponseDto;
+import org.example.scheduler.dto.common.SliceResponseDto;
+import org.example.scheduler.dto.common.VersionStamp;
 import org.example.scheduler.dto.schedule.*;
+import org.example.scheduler.entity.Comment;
+import org.example.scheduler.entity.DurationBucket;
+import org.example.scheduler.entity.RecurrenceRule;
 import org.example.scheduler.entity.Schedule;
 import org.example.scheduler.entity.User;
 import org.example.scheduler.error.CustomException;
 import org.example.scheduler.error.ErrorCode;
+import org.example.scheduler.event.CommentChangedEvent;
+import org.example.scheduler.event.ScheduleChangedEvent;
 import org.example.scheduler.repository.CommentRepository;
 import org.example.scheduler.repository.ScheduleRepository;
 import org.example.scheduler.repository.UserRepository;
+import org.example.scheduler.search.ScheduleSearchIndex;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 일정 관련 비즈니스 로직을 처리하는 서비스
@@ -25,28 +48,84 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class ScheduleService {
+    private static final int COMMENT_PAGE_SIZE = 10; // 일정 단건 조회 시 포함하는 댓글 수
+    private static final Duration MAX_RANGE = Duration.ofDays(366);  // 기간 조회 최대 길이
+    private static final int RANGE_LIMIT = 1_000;    // 기간 조회 최대 건수
+    private static final int CONFLICT_CHECK_LIMIT = 10_000;    // 일정 겹침 확인 시 읽는 기존 일정 최대 건수
+
     private final ScheduleRepository scheduleRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final ScheduleDetailCache scheduleDetailCache;
+    private final ScheduleCountCache scheduleCountCache;
+    private final RecurrenceExpansionCache recurrenceExpansionCache;
+    private final ScheduleSearchIndex scheduleSearchIndex;
+    private final ChangeFeedService changeFeedService;
+    private final ReminderService reminderService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 일정 저장
+     * - rejectConflicts이면 작성자 행을 잠근 뒤 기존 일정과 겹치는지 확인 (같은 유저의 동시 생성도 하나씩 확인)
      *
      * @param scheduleRequestDto 일정 생성 요청 데이터
+     * @param rejectConflicts 기존 일정과 겹치면 거절할지 여부
      * @return 생성된 일정 응답 DTO
+     * @throws CustomException 겹치는 일정이 있으면 409 반환
      */
     @Transactional
-    public ScheduleResponseDto saveSchedule(ScheduleRequestDto scheduleRequestDto, Long userId) {
-        User user = userRepository.findByIdOrElseThrow(userId);
+    public ScheduleResponseDto saveSchedule(ScheduleRequestDto scheduleRequestDto, Long userId, boolean rejectConflicts) {
+        User user = rejectConflicts ? userRepository.findByIdForUpdateOrElseThrow(userId) : userRepository.findByIdOrElseThrow(userId);
 
-        Schedule schedule = new Schedule(scheduleRequestDto.getTitle(), scheduleRequestDto.getContent());
+        Schedule schedule = new Schedule(scheduleRequestDto.getTitle(), scheduleRequestDto.getContent(),
+                scheduleRequestDto.getStartAt(), scheduleRequestDto.getEndAt(), RecurrenceRule.parse(scheduleRequestDto.getRecurrence()));
+        if (rejectConflicts && schedule.getStartAt() != null && hasConflict(userId, schedule)) {
+            throw new CustomException(ErrorCode.SCHEDULE_TIME_CONFLICT);
+        }
         schedule.setUser(user);
 
         scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.CREATED, schedule.getId()));
 
         return ScheduleResponseDto.from(schedule);
     }
 
+    /**
+     * 일괄 가져오기 배치 저장
+     * - 한 트랜잭션에서 일정과 댓글을 JDBC 배치로 저장
+     *
+     * @param scheduleImportRequestDtos 검증을 통과한 일정 목록
+     * @param userId 작성자 ID
+     */
+    @Transactional
+    public void saveImportedSchedules(List<ScheduleImportRequestDto> scheduleImportRequestDtos, Long userId) {
+        User user = userRepository.getReferenceById(userId);
+
+        List<Schedule> schedules = new ArrayList<>(scheduleImportRequestDtos.size());
+        List<Comment> comments = new ArrayList<>();
+        for (ScheduleImportRequestDto dto : scheduleImportRequestDtos) {
+            Schedule schedule = new Schedule(dto.getTitle(), dto.getContent(), dto.getStartAt(), dto.getEndAt(),
+                    RecurrenceRule.parse(dto.getRecurrence()));
+            schedule.setUser(user);
+            schedules.add(schedule);
+
+            if (dto.getComments() != null) {
+                for (CommentRequestDto commentDto : dto.getComments()) {
+                    Comment comment = new Comment(commentDto.getContent());
+                    comment.setUser(user);
+                    comment.setSchedule(schedule);
+                    comments.add(comment);
+                }
+                schedule.initCommentCount(dto.getComments().size());
+            }
+        }
+
+        scheduleRepository.saveAll(schedules);
+        commentRepository.saveAll(comments);
+        schedules.forEach(schedule -> eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.CREATED, schedule.getId())));
+        comments.forEach(comment -> eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.CREATED, comment.getSchedule().getId(), comment.getId())));
+    }
+
     /**
      * 전체 일정 조회
      *
@@ -54,11 +133,8 @@ public class ScheduleService {
      */
     @Transactional(readOnly = true)
     public Page<SchedulePageResponseDto> getAllSchedules(int page, int size){
-        if (page < 0 || size <= 0 || size > 100) {
-            throw new CustomException(ErrorCode.INVALID_PAGING_PARAM);
-        }
-        Pageable pageable = PageRequest.of(page, size);
-        return scheduleRepository.findPageByOrderByModifiedAtDesc(pageable);
+        Slice<SchedulePageResponseDto> slice = scheduleRepository.findSliceByOrderByModifiedAtDesc(toPageable(page, size));
+        return toPage(slice, scheduleCountCache.countAll());
     }
 
     /**
@@ -69,29 +145,229 @@ public class ScheduleService {
      */
     @Transactional(readOnly = true)
     public Page<SchedulePageResponseDto> getSchedulesByUserId(Long userId, int page, int size) {
+        Slice<SchedulePageResponseDto> slice = scheduleRepository.findSliceByUserIdOrderByModifiedAtDesc(userId, toPageable(page, size));
+        return toPage(slice, scheduleCountCache.countByUserId(userId));
+    }
+
+    /**
+     * 전체 또는 특정 작성자의 일정을 전체 건수 없이 조회 (무한 스크롤용)
+     * - size + 1건만 읽어 다음 페이지 존재 여부를 판단하고 count 쿼리는 실행하지 않음
+     *
+     * @param userId (선택) 작성자 ID
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 일정 목록과 다음 페이지 존재 여부 (최신 수정일 순 정렬)
+     */
+    @Transactional(readOnly = true)
+    public SliceResponseDto<SchedulePageResponseDto> getSchedulesSlice(Long userId, int page, int size) {
+        Pageable pageable = toPageable(page, size);
+        Slice<SchedulePageResponseDto> slice = (userId == null)
+                ? scheduleRepository.findSliceByOrderByModifiedAtDesc(pageable)
+                : scheduleRepository.findSliceByUserIdOrderByModifiedAtDesc(userId, pageable);
+        return SliceResponseDto.from(slice);
+    }
+
+    private Pageable toPageable(int page, int size) {
         if (page < 0 || size <= 0 || size > 100) {
             throw new CustomException(ErrorCode.INVALID_PAGING_PARAM);
         }
-        Pageable pageable = PageRequest.of(page, size);
-        return scheduleRepository.findPageByUserIdOrderByModifiedAtDesc(userId, pageable);
+        return PageRequest.of(page, size);
     }
 
     /**
-     * 특정 일정 및 댓글 조회
+     * 조회한 구간과 캐시된 건수로 페이지 생성
+     * - 마지막 페이지면 정확한 건수를 알 수 있으므로 그 값을 사용하고, 캐시 값이 이미 읽은 건수보다 작으면 보정
+     * - 범위를 벗어난 페이지(빈 구간)는 건수를 알 수 없으므로 캐시 값을 사용 (요청 offset 이상일 수는 없으므로 offset으로 제한)
+     */
+    private Page<SchedulePageResponseDto> toPage(Slice<SchedulePageResponseDto> slice, long cachedTotal) {
+        long offset = slice.getPageable().getOffset();
+        long read = offset + slice.getNumberOfElements();
+        long total;
+        if (slice.hasNext()) {
+            total = Math.max(cachedTotal, read + 1);
+        } else if (!slice.hasContent() && offset > 0) {
+            total = Math.min(cachedTotal, offset);
+        } else {
+            total = read;
+        }
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /**
+     * 전체 또는 특정 작성자의 일정 커서 기반 조회
      *
-     * @param scheduleId 일정 ID
-     * @return 특정 일정 + 댓글 목록 응답 DTO (최신 수정일 순 정렬)
+     * @param userId (선택) 작성자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 일정 목록과 다음 페이지 커서 (최신 수정일 순 정렬)
      */
     @Transactional(readOnly = true)
-    public ScheduleWithCommentsResponseDto getScheduleWithCommentsById(Long scheduleId) {
-        Schedule schedule = scheduleRepository.findByIdOrElseThrow(scheduleId);
+    public CursorPageResponseDto<SchedulePageResponseDto> getSchedulesByCursor(Long userId, String cursor, int size) {
+        if (size <= 0 || size > 100) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAM);
+        }
+        Cursor after = Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+
+        List<SchedulePageResponseDto> rows;
+        if (userId == null) {
+            rows = (after == null)
+                    ? scheduleRepository.findCursorPage(limit)
+                    : scheduleRepository.findCursorPageAfter(after.getModifiedAt(), after.getId(), limit);
+        } else {
+            rows = (after == null)
+                    ? scheduleRepository.findCursorPageByUserId(userId, limit)
+                    : scheduleRepository.findCursorPageByUserIdAfter(userId, after.getModifiedAt(), after.getId(), limit);
+        }
+        return CursorPageResponseDto.of(rows, size, row -> Cursor.of(row.getModifiedAt(), row.getId()));
+    }
+
+    /**
+     * 특정 유저의 일정 중 [from, to) 기간과 겹치는 일정 조회 (캘린더 조회용)
+     * - 반복 일정은 기간 안의 발생마다 한 건씩 펼쳐서 포함 (발생의 startAt/endAt은 해당 회차 시각)
+     *
+     * @param userId 유저 ID
+     * @param from 조회 시작 시각 (포함)
+     * @param to 조회 종료 시각 (제외)
+     * @return 일정 목록 (시작 시각 순 정렬, 최대 RANGE_LIMIT건)
+     */
+    @Transactional(readOnly = true)
+    public List<SchedulePageResponseDto> getSchedulesInRange(Long userId, LocalDateTime from, LocalDateTime to) {
+        return getSchedulesInRange(userId, from, to, RANGE_LIMIT);
+    }
+
+    /**
+     * 특정 유저의 일정 중 [from, to) 기간과 겹치는 일정을 최대 limit건 조회
+     * - 잘린 결과를 빈 시간으로 오해하지 않도록, 호출하는 쪽은 limit + 1건을 요청해 잘렸는지 확인
+     *
+     * @param userId 유저 ID
+     * @param from 조회 시작 시각 (포함)
+     * @param to 조회 종료 시각 (제외)
+     * @param limit 최대 건수
+     * @return 일정 목록 (시작 시각 순 정렬)
+     */
+    @Transactional(readOnly = true)
+    public List<SchedulePageResponseDto> getSchedulesInRange(Long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        if (!to.isAfter(from) || Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new CustomException(ErrorCode.INVALID_TIME_RANGE);
+        }
+        return findInRange(userId, from, to, limit);
+    }
+
+    /**
+     * 새 일정(반복 일정은 MAX_RANGE 안의 발생)이 작성자의 기존 일정과 겹치는지 확인
+     * - 후보 구간 전체를 덮는 범위를 인덱스로 한 번 읽어 바쁜 구간으로 합친 뒤 후보와 나란히 비교
+     */
+    private boolean hasConflict(Long userId, Schedule schedule) {
+        LocalDateTime startAt = schedule.getStartAt();
+        Duration duration = Duration.between(startAt, schedule.getEndAt());
+        List<IntervalSweep.Interval> candidates = new ArrayList<>();
+        if (schedule.getRecurrence() == null) {
+            candidates.add(new IntervalSweep.Interval(startAt, schedule.getEndAt(), null));
+        } else {
+            for (LocalDateTime start : recurrenceExpansionCache.occurrences(schedule.getRecurrence(), startAt, startAt, startAt.plus(MAX_RANGE))) {
+                candidates.add(new IntervalSweep.Interval(start, start.plus(duration), null));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return false;
+        }
 
-        List<CommentResponseDto> comments = commentRepository.findByScheduleIdOrderByModifiedAtDesc(scheduleId) // 최신 수정일 기준 내림차순 정렬
-                .stream()
-                .map(CommentResponseDto::from)
+        LocalDateTime to = candidates.get(candidates.size() - 1).endAt();
+        List<IntervalSweep.Interval> existing = findInRange(userId, startAt, to, CONFLICT_CHECK_LIMIT).stream()
+                .map(row -> new IntervalSweep.Interval(row.getStartAt(), row.getEndAt(), row.getId()))
                 .toList();
+        return IntervalSweep.overlapsAny(candidates, IntervalSweep.merge(existing));
+    }
+
+    /**
+     * [from, to)와 겹치는 일정과 반복 일정의 발생을 시작 시각 순으로 최대 limit건 조회
+     */
+    private List<SchedulePageResponseDto> findInRange(Long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        List<SchedulePageResponseDto> schedules = new ArrayList<>(scheduleRepository.findOverlapping(userId, from, to, limit));
+        for (SchedulePageResponseDto recurring : scheduleRepository.findRecurringByUserIdStartingBefore(userId, to)) {
+            Duration duration = Duration.between(recurring.getStartAt(), recurring.getEndAt());
+            // from 이후에 끝나는 회차 = from - 길이 이후에 시작하는 회차
+            List<LocalDateTime> starts = recurrenceExpansionCache.occurrences(recurring.getRecurrence(), recurring.getStartAt(), from.minus(duration), to);
+            for (LocalDateTime start : starts) {
+                LocalDateTime end = start.plus(duration);
+                if (end.isAfter(from)) {
+                    schedules.add(recurring.toOccurrence(start, end));
+                }
+            }
+        }
+        schedules.sort(Comparator.comparing(SchedulePageResponseDto::getStartAt).thenComparing(SchedulePageResponseDto::getId));
+        return schedules.size() > limit ? schedules.subList(0, limit) : schedules;
+    }
+
+    /**
+     * 일정 목록(페이지/커서) 응답의 ETag 계산
+     * - 일정/댓글 변경은 모두 변경 기록에 남으므로 목록을 읽지 않고 변경 기록 위치와 작성자명 변경 여부만 조회
+     *
+     * @return 강한 ETag
+     */
+    public String getSchedulesETag() {
+        return VersionStamp.eTag("schedules", changeFeedService.getVersion(), userRepository.findLastModifiedAt());
+    }
 
-        return ScheduleWithCommentsResponseDto.of(ScheduleResponseDto.from(schedule), comments);
+    /**
+     * 일정 제목/내용 검색
+     *
+     * @param keyword 검색어
+     * @param size 최대 결과 수
+     * @return 일정 목록 (관련도 순 정렬)
+     */
+    public List<SchedulePageResponseDto> searchSchedules(String keyword, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+        if (size <= 0 || size > 100) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAM);
+        }
+
+        List<Long> scheduleIds = scheduleSearchIndex.search(keyword, size);
+        if (scheduleIds.isEmpty()) {
+            return List.of();
+        }
+        // 색인 반영 전에 삭제된 일정은 조회되지 않으므로 결과에서 제외됨
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < scheduleIds.size(); i++) {
+            rank.put(scheduleIds.get(i), i);
+        }
+        return scheduleRepository.findPageResponsesByIdIn(scheduleIds).stream()
+                .sorted(Comparator.comparing(row -> rank.get(row.getId())))
+                .toList();
+    }
+
+    /**
+     * 특정 일정 및 댓글 첫 페이지 조회
+     * - 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 캐시부터 조회
+     *
+     * @param scheduleId 일정 ID
+     * @return 특정 일정 + 댓글 첫 페이지 응답 DTO (최신 수정일 순 정렬)
+     */
+    public ScheduleWithCommentsResponseDto getScheduleWithCommentsById(Long scheduleId) {
+        return scheduleDetailCache.get(scheduleId, this::loadScheduleWithComments).response();
+    }
+
+    /**
+     * 일정 단건 조회 응답의 ETag 조회
+     * - 캐시에 응답과 함께 보관한 값을 사용하므로 캐시 적중 시 DB를 읽지 않음 (변경은 커밋 후 이벤트로 무효화)
+     *
+     * @param scheduleId 일정 ID
+     * @return 강한 ETag
+     * @throws CustomException 일정이 없으면 404 반환
+     */
+    public String getScheduleETag(Long scheduleId) {
+        return scheduleDetailCache.get(scheduleId, this::loadScheduleWithComments).eTag();
+    }
+
+    private ScheduleWithCommentsResponseDto loadScheduleWithComments(Long scheduleId) {
+        ScheduleResponseDto schedule = scheduleRepository.findResponseByIdOrElseThrow(scheduleId);
+        List<CommentResponseDto> rows = commentRepository.findResponsePage(scheduleId, null, COMMENT_PAGE_SIZE + 1); // 최신 수정일 기준 내림차순 정렬
+        CursorPageResponseDto<CommentResponseDto> comments = CursorPageResponseDto.of(rows, COMMENT_PAGE_SIZE, row -> Cursor.of(row.getModifiedAt(), row.getId()));
+
+        return ScheduleWithCommentsResponseDto.of(schedule, comments.getContent(), comments.getNextCursor());
     }
 
     /**
@@ -104,44 +380,46 @@ public class ScheduleService {
      */
     @Transactional
     public ScheduleResponseDto updateSchedule(Long scheduleId, Long sessionUserId, ScheduleUpdateRequestDto scheduleUpdateRequestDto) {
-        Schedule schedule = scheduleRepository.findByIdOrElseThrow(scheduleId);
-
-        if(!schedule.getUser().getId().equals(sessionUserId)){
-            throw new CustomException(ErrorCode.FORBIDDEN_NOT_OWNER, "본인이 작성한 일정만 수정할 수 있습니다.");
-        }
+        LocalDateTime startAt = scheduleUpdateRequestDto.getStartAt();
+        LocalDateTime endAt = scheduleUpdateRequestDto.getEndAt();
+        RecurrenceRule recurrence = RecurrenceRule.parse(scheduleUpdateRequestDto.getRecurrence());
+        int updated = scheduleRepository.updateIfOwned(scheduleId, sessionUserId, scheduleUpdateRequestDto.getVersion(),
+                scheduleUpdateRequestDto.getTitle(), scheduleUpdateRequestDto.getContent(),
+                startAt, endAt, recurrence, DurationBucket.of(startAt, endAt), LocalDateTime.now());
 
-        if(scheduleUpdateRequestDto.getTitle()!=null){
-            schedule.updateTitle(scheduleUpdateRequestDto.getTitle());
+        // 수정한 행은 이 트랜잭션이 잠그고 있으므로 다시 읽어도 다른 수정이 끼어들지 않음 (MySQL은 UPDATE ... RETURNING 미지원)
+        ScheduleResponseDto schedule = scheduleRepository.findResponseByIdOrElseThrow(scheduleId);
+        if (updated == 0) {
+            // 변경된 행이 없을 때만 원인 구분 (없는 일정은 위에서 404)
+            if (!schedule.getUserId().equals(sessionUserId)) {
+                throw new CustomException(ErrorCode.FORBIDDEN_NOT_OWNER, "본인이 작성한 일정만 수정할 수 있습니다.");
+            }
+            throw new CustomException(ErrorCode.SCHEDULE_VERSION_CONFLICT);
         }
-
-        if(scheduleUpdateRequestDto.getContent()!=null){
-            schedule.updateContent(scheduleUpdateRequestDto.getContent());
+        if (startAt != null) {
+            reminderService.rescheduleForSchedule(scheduleId, schedule.getStartAt(), schedule.getRecurrence());
         }
 
-        scheduleRepository.flush(); // 반환 schedule에 modifiedAt 반영되도록 flush
-        return ScheduleResponseDto.from(schedule);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.UPDATED, scheduleId));
+        return schedule;
     }
 
     /**
-     * 특정 일정 및 관련 댓글 삭제
+     * 특정 일정 삭제
+     * - 일정 한 건에 삭제 표시만 하며, 일정과 댓글의 실제 삭제는 TombstoneReaperJob이 처리
      *
      * @param scheduleId 일정 ID
      */
     @Transactional
     public void deleteSchedule(Long scheduleId, Long sessionUserId) {
-
-        Schedule schedule = scheduleRepository.findByIdOrElseThrow(scheduleId);
-
-        if(!schedule.getUser().getId().equals(sessionUserId)){
+        // 댓글은 일정이 조회되지 않으므로 함께 숨겨짐
+        int deleted = scheduleRepository.markDeletedIfOwned(scheduleId, sessionUserId, LocalDateTime.now());
+        if (deleted == 0) {
+            // 변경된 행이 없을 때만 원인 구분 (없거나 이미 삭제된 일정은 404)
+            scheduleRepository.findResponseByIdOrElseThrow(scheduleId);
             throw new CustomException(ErrorCode.FORBIDDEN_NOT_OWNER, "본인이 작성한 일정만 삭제할 수 있습니다.");
         }
-
-        deleteScheduleAndData(scheduleId);
-    }
-
-    @Transactional
-    public void deleteScheduleAndData(Long scheduleId) {
-        commentRepository.deleteByScheduleId(scheduleId); // 해당 일정의 댓글 먼저 삭제 (단방향 연관관계)
-        scheduleRepository.deleteById(scheduleId);
+        reminderService.cancelForSchedule(scheduleId);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.DELETED, scheduleId));
     }
 }
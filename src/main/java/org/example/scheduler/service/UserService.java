@@ -1,8 +1,14 @@
 package org.example.scheduler.service;
 
-import jakarta.servlet.http.HttpServletRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import org.example.scheduler.config.PasswordEncoder;
+import org.example.scheduler.dto.common.Cursor;
+import org.example.scheduler.dto.common.CursorPageResponseDto;
+import org.example.scheduler.dto.common.VersionStamp;
 import org.example.scheduler.dto.login.LoginRequestDto;
 import org.example.scheduler.dto.user.UserDeleteRequestDto;
 import org.example.scheduler.dto.user.UserRequestDto;
@@ -11,13 +17,19 @@ import org.example.scheduler.dto.user.UserUpdateRequestDto;
 import org.example.scheduler.entity.User;
 import org.example.scheduler.error.CustomException;
 import org.example.scheduler.error.ErrorCode;
-import org.example.scheduler.repository.CommentRepository;
-import org.example.scheduler.repository.ScheduleRepository;
+import org.example.scheduler.event.UserDeletedEvent;
 import org.example.scheduler.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 유저 관련 비즈니스 로직을 처리하는 서비스
@@ -27,9 +39,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final ScheduleRepository scheduleRepository;
-    private final CommentRepository commentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
     /**
      * 유저 생성
@@ -57,10 +69,58 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserResponseDto> getAllUsers(){
-        return userRepository.findAllByOrderByModifiedAtDesc() // 최신 수정일 기준 내림차순 정렬
-                .stream()
-                .map(UserResponseDto::from)
-                .toList();
+        return userRepository.findAllResponses(); // 최신 수정일 기준 내림차순 정렬
+    }
+
+    /**
+     * 유저 목록(전체/커서) 응답의 ETag 계산
+     *
+     * @return 강한 ETag
+     */
+    @Transactional(readOnly = true)
+    public String getUsersETag() {
+        return userRepository.findVersion().toETag("users");
+    }
+
+    /**
+     * 유저 커서 기반 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 유저 목록과 다음 페이지 커서 (최신 수정일 순 정렬)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<UserResponseDto> getUsersByCursor(String cursor, int size) {
+        if (size <= 0 || size > 100) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAM);
+        }
+        Cursor after = Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+
+        List<UserResponseDto> rows = (after == null)
+                ? userRepository.findCursorPage(limit)
+                : userRepository.findCursorPageAfter(after.getModifiedAt(), after.getId(), limit);
+        return CursorPageResponseDto.of(rows, size, row -> Cursor.of(row.getModifiedAt(), row.getId()));
+    }
+
+    /**
+     * 전체 유저를 NDJSON(한 줄에 유저 하나)으로 출력
+     * - DB에서 읽는 즉시 한 건씩 직렬화하여 내보내므로 유저 수와 무관하게 메모리 사용량이 일정
+     *
+     * @param out 응답 출력 스트림
+     */
+    @Transactional(readOnly = true)
+    public void streamAllUsers(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<UserResponseDto> users = userRepository.streamAllResponses(); // 최신 수정일 기준 내림차순 정렬
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null); // 값 사이 구분자는 줄바꿈으로 직접 출력
+            Iterator<UserResponseDto> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+            }
+        }
     }
 
     /**
@@ -75,6 +135,19 @@ public class UserService {
         return UserResponseDto.from(user);
     }
 
+    /**
+     * 특정 유저 조회 응답의 ETag 계산
+     *
+     * @param userId 유저 ID
+     * @return 강한 ETag (유저가 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public String getUserETag(Long userId) {
+        return userRepository.findModifiedAtById(userId)
+                .map(modifiedAt -> VersionStamp.eTag("user-" + userId, modifiedAt))
+                .orElse(null);
+    }
+
     /**
      * 특정 유저 수정
      *
@@ -117,7 +190,8 @@ public class UserService {
     }
 
     /**
-     * 특정 유저 및 관련 일정, 댓글 삭제
+     * 특정 유저 탈퇴 처리
+     * - 유저에 삭제 표시만 하고 즉시 반환하며, 관련 일정/댓글과 유저 행은 UserPurgeJob이 백그라운드에서 삭제
      *
      * @param userId 유저 ID
      * @param sessionUserId 세션 유저 ID
@@ -131,18 +205,22 @@ public class UserService {
         }
         validatePasswordMatch(userDeleteRequestDto.getPassword(), user.getPassword());
 
-        deleteUserAndData(userId);
+        user.markDeleted();
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
     }
 
     /**
-     * 로그인
+     * 로그인 정보 확인
+     *
+     * @param loginRequestDto 로그인 요청 정보
+     * @return 이메일/비밀번호가 일치하는 유저 ID
      */
     @Transactional(readOnly = true)
-    public void login(LoginRequestDto loginRequestDto, HttpServletRequest request) {
+    public Long authenticate(LoginRequestDto loginRequestDto) {
         User user = userRepository.findByEmailOrElseThrow(loginRequestDto.getEmail());
 
         validatePasswordMatch(loginRequestDto.getPassword(), user.getPassword());
-        request.getSession().setAttribute("userId", user.getId());
+        return user.getId();
     }
 
     /**
@@ -155,15 +233,4 @@ public class UserService {
         }
     }
 
-    @Transactional
-    public void deleteUserAndData(Long userId) {
-        List<Long> scheduleIds = scheduleRepository.findIdsByUserId(userId);
-        commentRepository.deleteByUserId(userId); // 해당 유저의 댓글 먼저 삭제 (단방향 연관관계)
-        if(!scheduleIds.isEmpty()){
-            commentRepository.deleteByScheduleIdIn(scheduleIds); // 해당 유저의 일정에 달린 댓글 먼저 삭제
-            scheduleRepository.deleteByUserId(userId); // 해당 유저의 일정 먼저 삭제 (단방향 연관관계)
-        }
-        userRepository.deleteById(userId);
-    }
-
 }
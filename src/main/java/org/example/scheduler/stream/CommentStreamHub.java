@@ -0,0 +1,382 @@
+package org.example.scheduler.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.common.Cursor;
+import org.example.scheduler.dto.stats.CommentStreamStatsResponseDto;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.example.scheduler.event.CommentChangedEvent;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일정별 댓글 변경을 SSE 구독자에게 전달하는 프로세스 내 팬아웃 허브
+ * - 대기 중인 구독자는 서블릿 비동기 요청으로만 유지되어 스레드를 점유하지 않음
+ * - 커밋된 변경은 한 번만 조회/직렬화한 뒤 구독자별 고정 크기 버퍼에 넣고, 전송 전용 스레드가 비워서 보냄
+ *   (댓글을 등록한 요청 스레드는 전송을 기다리지 않음)
+ * - 버퍼가 가득 찬 느린 구독자는 연결을 끊어 제거하며, 클라이언트는 Last-Event-ID로 재연결하여 놓친 변경을 받음
+ * - 서블릿 쓰기는 블로킹이므로 한 번의 전송이 제한 시간을 넘기면 그 구독자를 제거하고, 막힌 스레드 대신 전송 스레드를 늘려
+ *   다른 구독자 전송이 멈추지 않게 함 (막힌 스레드는 컨테이너의 소켓 쓰기 제한 시간이 지나면 반납)
+ */
+@Slf4j
+@Component
+public class CommentStreamHub {
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+    private static final long IDLE = Long.MIN_VALUE;      // 전송 중이 아님
+    private static final long STALLED = Long.MAX_VALUE;   // 제한 시간을 넘겨 제거된 전송
+
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final int sendThreads;
+    private final int maxSendThreads;
+    private final ThreadPoolExecutor sendExecutor;
+    private int stalledSends;   // 제거된 뒤에도 끝나지 않은 전송 수 (sendExecutor 크기 조정과 함께 동기화)
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();  // 일정 ID → 구독자
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();     // 전송 중인 구독자 (버퍼 초과로 해제된 구독자 포함)
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder sentCount = new LongAdder();        // 전송한 이벤트 수
+    private final LongAdder evictedCount = new LongAdder();     // 버퍼 초과 또는 전송 지연으로 끊은 구독자 수
+
+    public CommentStreamHub(ScheduleRepository scheduleRepository,
+                            CommentRepository commentRepository,
+                            ObjectMapper objectMapper,
+                            @Value("${scheduler.comment-stream.buffer-size:64}") int bufferSize,
+                            @Value("${scheduler.comment-stream.max-subscribers:20000}") int maxSubscribers,
+                            @Value("${scheduler.comment-stream.timeout-millis:1800000}") long timeoutMillis,
+                            @Value("${scheduler.comment-stream.write-timeout-millis:5000}") long writeTimeoutMillis,
+                            @Value("${scheduler.comment-stream.send-threads:4}") int sendThreads,
+                            @Value("${scheduler.comment-stream.max-send-threads:64}") int maxSendThreads) {
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        this.sendThreads = sendThreads;
+        this.maxSendThreads = Math.max(sendThreads, maxSendThreads);
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("comment-stream-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * 일정의 댓글 변경 구독
+     *
+     * @param scheduleId 일정 ID
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (없으면 이후 변경만 전달)
+     * @return SSE 연결
+     * @throws CustomException 일정이 없으면 404, 구독자 수가 한도를 넘으면 503 반환
+     */
+    public SseEmitter subscribe(Long scheduleId, String lastEventId) {
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new CustomException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
+        Cursor after = Cursor.decode(lastEventId);
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new CustomException(ErrorCode.STREAM_SUBSCRIBERS_EXCEEDED);
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(scheduleId, emitter);
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::detach);
+        emitter.onError(e -> subscriber.detach());
+        subscribers.compute(scheduleId, (id, set) -> {
+            Set<Subscriber> targets = (set == null) ? ConcurrentHashMap.newKeySet() : set;
+            targets.add(subscriber);
+            return targets;
+        });
+
+        subscriber.offer(SseEmitter.event().comment("connected").build());
+        if (after != null) {
+            replay(subscriber, after);
+        }
+        return emitter;
+    }
+
+    /**
+     * 스트림 통계 조회
+     *
+     * @return 구독자 수, 전송/제거 수
+     */
+    public CommentStreamStatsResponseDto stats() {
+        return new CommentStreamStatsResponseDto(subscriberCount.get(), subscribers.size(), sentCount.sum(), evictedCount.sum());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getScheduleId());
+        if (targets == null || targets.isEmpty()) {
+            return; // 구독자가 없으면 조회/직렬화하지 않음
+        }
+
+        Set<DataWithMediaType> frame;
+        if (event.getType() == CommentChangedEvent.Type.DELETED) {
+            frame = deletedFrame(event.getCommentId(), event.getScheduleId(), LocalDateTime.now());
+        } else {
+            List<CommentResponseDto> comments = commentRepository.findResponsesByIdIn(List.of(event.getCommentId()));
+            if (comments.isEmpty()) {
+                return;
+            }
+            frame = upsertFrame(comments.get(0), event.getType() == CommentChangedEvent.Type.CREATED ? "comment-created" : "comment-updated");
+        }
+        targets.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.getType() != ScheduleChangedEvent.Type.DELETED) {
+            return;
+        }
+        Set<Subscriber> targets = subscribers.get(event.getScheduleId());
+        if (targets != null) {
+            Set<DataWithMediaType> frame = SseEmitter.event().name("schedule-deleted").data(event.getScheduleId().toString()).build();
+            targets.forEach(subscriber -> {
+                subscriber.offer(frame);
+                subscriber.offer(null); // 전송 후 연결 종료
+            });
+        }
+    }
+
+    /**
+     * 연결이 끊긴 구독자를 찾아내기 위한 주기적 하트비트
+     */
+    @Scheduled(fixedDelayString = "${scheduler.comment-stream.heartbeat-millis:30000}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    /**
+     * 제한 시간 안에 끝나지 않는 전송(TCP 윈도가 가득 찼거나 응답 없이 끊긴 연결)의 구독자 제거
+     * - 막힌 스레드가 풀릴 때까지 전송 스레드를 하나 늘리며 (최대 max-send-threads), 전송이 끝나면 다시 줄임
+     */
+    @Scheduled(fixedDelayString = "${scheduler.comment-stream.write-check-millis:1000}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            if (subscriber.markStalled(now)) {
+                resizeSendPool(1);
+                if (subscriber.detach()) {
+                    evictedCount.increment();
+                }
+            }
+        }
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private synchronized void resizeSendPool(int stalledDelta) {
+        stalledSends += stalledDelta;
+        int size = Math.min(Math.max(sendThreads, sendThreads + stalledSends), maxSendThreads);
+        if (size > sendExecutor.getMaximumPoolSize()) {
+            sendExecutor.setMaximumPoolSize(size);
+            sendExecutor.setCorePoolSize(size);     // 대기 중인 전송이 있으면 바로 새 스레드 시작
+        } else {
+            sendExecutor.setCorePoolSize(size);
+            sendExecutor.setMaximumPoolSize(size);
+        }
+    }
+
+    /**
+     * 마지막으로 받은 이벤트 이후의 댓글 변경을 다시 전송
+     */
+    private void replay(Subscriber subscriber, Cursor after) {
+        Long scheduleId = subscriber.scheduleId;
+        int replayLimit = Math.max(1, (bufferSize - 2) / 2);   // 재전송만으로 버퍼가 넘치지 않도록 제한
+        List<CommentResponseDto> comments = commentRepository.findResponsesByScheduleIdChangedAfter(
+                scheduleId, after.getModifiedAt(), after.getId(), PageRequest.of(0, replayLimit));
+        List<Long> deletedIds = commentRepository.findDeletedIdsByScheduleIdChangedAfter(
+                scheduleId, after.getModifiedAt(), after.getId(), PageRequest.of(0, replayLimit));
+        if (comments.size() == replayLimit || deletedIds.size() == replayLimit) {
+            // 놓친 변경이 너무 많으면 일부만 보내지 않고 목록을 다시 조회하도록 알림
+            subscriber.offer(SseEmitter.event().name("resync").data(scheduleId.toString()).build());
+            return;
+        }
+
+        comments.forEach(comment -> subscriber.offer(upsertFrame(comment, "comment-updated")));
+        LocalDateTime now = LocalDateTime.now();
+        deletedIds.forEach(id -> subscriber.offer(deletedFrame(id, scheduleId, now)));
+    }
+
+    private Set<DataWithMediaType> upsertFrame(CommentResponseDto comment, String name) {
+        return SseEmitter.event()
+                .id(Cursor.of(comment.getModifiedAt(), comment.getId()).encode())
+                .name(name)
+                .data(toJson(comment))
+                .build();
+    }
+
+    private Set<DataWithMediaType> deletedFrame(Long commentId, Long scheduleId, LocalDateTime deletedAt) {
+        return SseEmitter.event()
+                .id(Cursor.of(deletedAt, commentId).encode())
+                .name("comment-deleted")
+                .data(toJson(Map.of("id", commentId, "scheduleId", scheduleId)))
+                .build();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value); // 구독자 수와 무관하게 한 번만 직렬화
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * SSE 구독자 한 명과 전송 대기 버퍼
+     * - SseEmitter의 complete는 진행 중인 send가 끝날 때까지 기다리므로 전송 스레드(drain)에서만 호출
+     */
+    private final class Subscriber {
+        private final Long scheduleId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicLong sendStartedAt = new AtomicLong(IDLE);  // 진행 중인 전송 시작 시각 (System.nanoTime)
+        private volatile boolean completeAfterDrain;
+
+        private Subscriber(Long scheduleId, SseEmitter emitter) {
+            this.scheduleId = scheduleId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 전송할 이벤트를 버퍼에 추가 (null이면 남은 이벤트 전송 후 종료)
+         */
+        private void offer(Set<DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (frame == null) {
+                completeAfterDrain = true;
+            } else if (!buffer.offer(frame) && detach()) {
+                evictedCount.increment();
+            }
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed.get() && (frame = buffer.poll()) != null) {
+                    send(frame);
+                }
+                if (completeAfterDrain) {
+                    detach();
+                }
+            } catch (IOException | IllegalStateException e) { // 클라이언트 연결 종료
+                detach();
+            } finally {
+                if (closed.get()) {
+                    complete();
+                }
+                draining.set(false);
+                if (!closed.get() && !buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                    sendExecutor.execute(this::drain);
+                }
+            }
+        }
+
+        private void send(Set<DataWithMediaType> frame) throws IOException {
+            sendStartedAt.set(System.nanoTime());
+            sending.add(this);
+            try {
+                emitter.send(frame);
+                sentCount.increment();
+            } finally {
+                sending.remove(this);
+                if (sendStartedAt.getAndSet(IDLE) == STALLED) {
+                    resizeSendPool(-1); // 제거된 뒤 늦게 끝난 전송이므로 늘렸던 스레드 반납
+                }
+            }
+        }
+
+        /**
+         * 진행 중인 전송이 제한 시간을 넘겼으면 지연 상태로 표시
+         *
+         * @return 이번 호출에서 지연으로 표시했으면 true
+         */
+        private boolean markStalled(long now) {
+            long startedAt = sendStartedAt.get();
+            return startedAt != IDLE && startedAt != STALLED && now - startedAt > writeTimeoutNanos
+                    && sendStartedAt.compareAndSet(startedAt, STALLED);
+        }
+
+        /**
+         * 구독 해제 (더 이상 이벤트를 받지 않음, 연결 종료는 전송 스레드가 처리)
+         *
+         * @return 이번 호출에서 해제했으면 true
+         */
+        private boolean detach() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(scheduleId, (id, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            buffer.clear();
+            return true;
+        }
+
+        private void close() {
+            detach();
+            complete();
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                log.debug("이미 종료된 SSE 연결", e);
+            }
+        }
+    }
+}
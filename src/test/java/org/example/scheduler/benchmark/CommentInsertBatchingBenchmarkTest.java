@@ -0,0 +1,85 @@
+package org.example.scheduler.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.scheduler.entity.Comment;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.entity.User;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.example.scheduler.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 한 트랜잭션 안에서의 댓글 INSERT가 JDBC 배치로 묶이는지 확인
+ * - BENCHMARK=true 환경 변수가 있을 때만 실행 (application.yml의 DB 필요)
+ * - Hibernate 통계의 준비된 문장 수로 확인 (batch_size 50이면 INSERT와 ID 시퀀스 조회가 각각 약 50건당 한 번)
+ * - 측정 후 롤백하므로 데이터가 남지 않음
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class CommentInsertBatchingBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(CommentInsertBatchingBenchmarkTest.class);
+
+    private static final int COMMENT_COUNT = 20_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void commentInsertsAreBatched() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(new User("benchmark", "benchmark-" + System.nanoTime() + "@benchmark.com", "benchmark"));
+            Schedule schedule = new Schedule("benchmark", "benchmark");
+            schedule.setUser(user);
+            scheduleRepository.saveAndFlush(schedule);
+
+            statistics.clear();
+            List<Comment> comments = new ArrayList<>(COMMENT_COUNT);
+            for (int i = 0; i < COMMENT_COUNT; i++) {
+                Comment comment = new Comment("benchmark comment " + i);
+                comment.setUser(user);
+                comment.setSchedule(schedule);
+                comments.add(comment);
+            }
+            commentRepository.saveAll(comments);
+            commentRepository.flush();
+
+            long insertCount = statistics.getEntityInsertCount();
+            long prepareCount = statistics.getPrepareStatementCount();
+            log.info("[benchmark] comment inserts: {} rows, {} prepared statements", insertCount, prepareCount);
+
+            assertEquals(COMMENT_COUNT, insertCount);
+            // 배치가 꺼져 있으면 행마다 문장을 준비하므로 COMMENT_COUNT 이상
+            assertTrue(prepareCount <= COMMENT_COUNT / 10, "prepared statements: " + prepareCount);
+            status.setRollbackOnly();
+        });
+    }
+}
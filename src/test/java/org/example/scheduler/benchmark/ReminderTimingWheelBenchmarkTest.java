@@ -0,0 +1,76 @@
+package org.example.scheduler.benchmark;
+
+import org.example.scheduler.reminder.TimingWheel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 알림 타이밍 휠의 등록/취소/진행 시간 측정
+ * - BENCHMARK=true 환경 변수가 있을 때만 실행 (DB 불필요)
+ * - 1시간 안에 고르게 흩어진 알림 1,000,000건을 등록하고 10%를 취소, 10%를 재예약한 뒤
+ *   100ms 틱으로 끝까지 진행하며 모든 알림이 예정 시각 이후 한 틱 안에 한 번씩 만료되는지 확인
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ReminderTimingWheelBenchmarkTest {
+    private static final int REMINDER_COUNT = 1_000_000;
+    private static final long TICK_MILLIS = 100;
+    private static final long WINDOW_MILLIS = 3_600_000;
+
+    @Test
+    void millionRemindersInsertCancelAndExpire() {
+        long origin = System.currentTimeMillis();
+        TimingWheel wheel = new TimingWheel(TICK_MILLIS, origin);
+        Random random = new Random(42);
+        long[] deadlines = new long[REMINDER_COUNT];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REMINDER_COUNT; i++) {
+            deadlines[i] = origin + (long) (random.nextDouble() * WINDOW_MILLIS);
+            wheel.schedule(i, deadlines[i]);
+        }
+        long insertNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int cancelled = 0;
+        for (int i = 0; i < REMINDER_COUNT; i += 10) {
+            wheel.cancel(i);
+            deadlines[i] = -1;
+            cancelled++;
+        }
+        for (int i = 5; i < REMINDER_COUNT; i += 10) {
+            deadlines[i] = origin + (long) (random.nextDouble() * WINDOW_MILLIS);
+            wheel.schedule(i, deadlines[i]);
+        }
+        long cancelNanos = System.nanoTime() - start;
+
+        long[] expiredAt = new long[REMINDER_COUNT];
+        Arrays.fill(expiredAt, -1);
+        int[] expired = new int[1];
+        int[] late = new int[1];
+        start = System.nanoTime();
+        for (long now = origin; now <= origin + WINDOW_MILLIS + TICK_MILLIS; now += TICK_MILLIS) {
+            long tickAt = now;
+            wheel.advanceTo(tickAt, id -> {
+                int index = (int) id;
+                if (expiredAt[index] != -1 || tickAt < deadlines[index] || tickAt - deadlines[index] > TICK_MILLIS) {
+                    late[0]++;
+                }
+                expiredAt[index] = tickAt;
+                expired[0]++;
+            });
+        }
+        long advanceNanos = System.nanoTime() - start;
+
+        System.out.printf("[benchmark] timing wheel %d reminders: insert %.0f ns/op, cancel+reschedule %.0f ns/op, advance %.2f ms total%n",
+                REMINDER_COUNT, (double) insertNanos / REMINDER_COUNT, (double) cancelNanos / (REMINDER_COUNT / 5.0),
+                advanceNanos / 1_000_000.0);
+        assertEquals(REMINDER_COUNT - cancelled, expired[0]);
+        assertEquals(0, late[0]);
+        assertEquals(0, wheel.size());
+    }
+}
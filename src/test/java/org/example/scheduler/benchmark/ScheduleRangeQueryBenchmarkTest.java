@@ -0,0 +1,148 @@
+package org.example.scheduler.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.entity.DurationBucket;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.entity.User;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.example.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 일정이 많은 유저의 기간(from~to) 조회 시간 측정
+ * - BENCHMARK=true 환경 변수가 있을 때만 실행 (application.yml의 DB 필요)
+ * - 유저 한 명에게 약 10년에 걸친 일정 100,000건을 넣고, 길이 구간 인덱스를 쓰는 조회와
+ *   시작/종료 시각만 비교하는 단순 조회의 1주 범위 조회 시간을 비교
+ * - 매 조회마다 두 조회의 결과 ID가 같은지 확인하고, 길이 구간 조회가 인덱스 범위 탐색인지 EXPLAIN으로 확인
+ * - 측정 후 롤백하므로 데이터가 남지 않음
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ScheduleRangeQueryBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(ScheduleRangeQueryBenchmarkTest.class);
+
+    private static final int SCHEDULE_COUNT = 100_000;
+    private static final int FLUSH_SIZE = 5_000;
+    private static final int QUERY_COUNT = 200;
+    private static final LocalDateTime BASE = LocalDateTime.of(2016, 1, 1, 0, 0);
+
+    private static final String NAIVE_SQL = """
+            select s.id from schedule s
+            where s.user_id = ? and s.deleted_at is null and s.start_at < ? and s.end_at > ?
+            order by s.start_at, s.id
+            """;
+
+    // findOverlappingByUserId와 같은 조건 (EXPLAIN 확인용)
+    private static final String BUCKETED_SQL = """
+            select s.id from schedule s
+            where s.user_id = ? and s.deleted_at is null and s.start_at < ? and s.end_at > ?
+              and (   (s.duration_bucket = 'HOUR' and s.start_at >= ?)
+                   or (s.duration_bucket = 'DAY' and s.start_at >= ?)
+                   or (s.duration_bucket = 'WEEK' and s.start_at >= ?)
+                   or (s.duration_bucket = 'MONTH' and s.start_at >= ?)
+                   or s.duration_bucket = 'LONGER')
+            order by s.start_at, s.id
+            """;
+    private static final String RANGE_INDEX = "idx_schedule_user_bucket_start_at";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void weekRangeQueryLatency() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(new User("benchmark", "benchmark-" + System.nanoTime() + "@benchmark.com", "benchmark"));
+            insertSchedules(user);
+
+            Random random = new Random(42);
+            long bucketedNanos = 0;
+            long naiveNanos = 0;
+            long matched = 0;
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                LocalDateTime from = BASE.plusDays(random.nextInt(3_600));
+                LocalDateTime to = from.plusDays(7);
+
+                long start = System.nanoTime();
+                List<SchedulePageResponseDto> rows = scheduleRepository.findOverlapping(user.getId(), from, to, 1_000);
+                bucketedNanos += System.nanoTime() - start;
+                matched += rows.size();
+
+                start = System.nanoTime();
+                List<Long> naiveIds = jdbcTemplate.queryForList(NAIVE_SQL, Long.class, user.getId(), to, from);
+                naiveNanos += System.nanoTime() - start;
+
+                assertEquals(naiveIds, rows.stream().map(SchedulePageResponseDto::getId).toList(), "from=" + from);
+            }
+
+            log.info("[benchmark] week range over {} schedules: bucketed {} ms/query, naive {} ms/query ({} rows/query)",
+                    SCHEDULE_COUNT, String.format("%.2f", bucketedNanos / 1_000_000.0 / QUERY_COUNT),
+                    String.format("%.2f", naiveNanos / 1_000_000.0 / QUERY_COUNT), String.format("%.1f", (double) matched / QUERY_COUNT));
+
+            // 1주 범위 하나로 실행 계획 확인 (길이 구간 조회는 구간별 시작 시각 범위 탐색이어야 함)
+            LocalDateTime from = BASE.plusDays(1_800);
+            LocalDateTime to = from.plusDays(7);
+            List<Map<String, Object>> bucketedPlan = jdbcTemplate.queryForList("explain " + BUCKETED_SQL, user.getId(), to, from,
+                    DurationBucket.HOUR.earliestStartOverlapping(from), DurationBucket.DAY.earliestStartOverlapping(from),
+                    DurationBucket.WEEK.earliestStartOverlapping(from), DurationBucket.MONTH.earliestStartOverlapping(from));
+            List<Map<String, Object>> naivePlan = jdbcTemplate.queryForList("explain " + NAIVE_SQL, user.getId(), to, from);
+            log.info("[benchmark] bucketed plan: {}", bucketedPlan);
+            log.info("[benchmark] naive plan: {}", naivePlan);
+
+            assertEquals(RANGE_INDEX, bucketedPlan.get(0).get("key"));
+            assertEquals("range", bucketedPlan.get(0).get("type"));
+            status.setRollbackOnly();
+        });
+    }
+
+    /**
+     * 대부분 1시간 이내, 일부는 하루/일주일/한 달 이상인 일정을 10년에 고르게 분포
+     */
+    private void insertSchedules(User user) {
+        Random random = new Random(7);
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            LocalDateTime startAt = BASE.plusMinutes(random.nextInt(10 * 365 * 24 * 60));
+            int kind = random.nextInt(100);
+            LocalDateTime endAt = (kind < 90) ? startAt.plusMinutes(15 + random.nextInt(46))
+                    : (kind < 97) ? startAt.plusHours(2 + random.nextInt(22))
+                    : (kind < 99) ? startAt.plusDays(2 + random.nextInt(5))
+                    : startAt.plusDays(8 + random.nextInt(60));
+            Schedule schedule = new Schedule("benchmark " + i, "benchmark", startAt, endAt);
+            schedule.setUser(user);
+            entityManager.persist(schedule);
+            if ((i + 1) % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                user = entityManager.getReference(User.class, user.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
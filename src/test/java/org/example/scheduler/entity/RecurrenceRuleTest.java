@@ -0,0 +1,128 @@
+package org.example.scheduler.entity;
+
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 반복 규칙 해석과 발생 시각 계산 (DB 불필요)
+ */
+class RecurrenceRuleTest {
+
+    @Test
+    void dailyIntervalContinuesAcrossMonths() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3");
+        LocalDateTime dtStart = LocalDateTime.of(2025, 1, 30, 9, 0);
+
+        assertEquals(days(2025, 2, 9, 0, 2, 5, 8, 11, 14, 17, 20, 23, 26),
+                rule.occurrencesIn(dtStart, YearMonth.of(2025, 2)));
+    }
+
+    @Test
+    void dailyIntervalJumpsToDistantMonth() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=7");
+        LocalDateTime dtStart = LocalDateTime.of(2000, 1, 3, 8, 30);    // 월요일
+
+        assertEquals(days(2025, 9, 8, 30, 1, 8, 15, 22, 29),
+                rule.occurrencesIn(dtStart, YearMonth.of(2025, 9)));
+    }
+
+    @Test
+    void weeklyWithIntervalSkipsOffWeeks() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE");
+        LocalDateTime dtStart = LocalDateTime.of(2025, 9, 3, 10, 0);   // 수요일, 같은 주 월요일(9/1)은 첫 발생 이전
+
+        assertEquals(days(2025, 9, 10, 0, 3, 15, 17, 29),
+                rule.occurrencesIn(dtStart, YearMonth.of(2025, 9)));
+        // 9/29 주는 월요일만 9월이고 수요일(10/1)은 10월에 속함
+        assertEquals(days(2025, 10, 10, 0, 1, 13, 15, 27, 29),
+                rule.occurrencesIn(dtStart, YearMonth.of(2025, 10)));
+    }
+
+    @Test
+    void weeklyWithoutByDayUsesStartDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=3");
+        LocalDateTime dtStart = LocalDateTime.of(2025, 9, 5, 18, 0);   // 금요일
+
+        assertEquals(days(2025, 9, 18, 0, 5, 26),
+                rule.occurrencesIn(dtStart, YearMonth.of(2025, 9)));
+    }
+
+    @Test
+    void monthlyOnDay31SkipsShortMonths() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY");
+        LocalDateTime dtStart = LocalDateTime.of(2025, 1, 31, 9, 0);
+
+        assertEquals(List.of(), rule.occurrencesIn(dtStart, YearMonth.of(2025, 2)));
+        assertEquals(days(2025, 3, 9, 0, 31), rule.occurrencesIn(dtStart, YearMonth.of(2025, 3)));
+        assertEquals(List.of(), rule.occurrencesIn(dtStart, YearMonth.of(2025, 4)));
+        assertEquals(LocalDateTime.of(2025, 3, 31, 9, 0),
+                rule.nextOccurrence(dtStart, LocalDateTime.of(2025, 2, 1, 0, 0)));
+    }
+
+    @Test
+    void monthlyWithIntervalSkipsOffMonths() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=2");
+        LocalDateTime dtStart = LocalDateTime.of(2025, 1, 15, 9, 0);
+
+        assertEquals(List.of(), rule.occurrencesIn(dtStart, YearMonth.of(2025, 2)));
+        assertEquals(days(2025, 3, 9, 0, 15), rule.occurrencesIn(dtStart, YearMonth.of(2025, 3)));
+        assertEquals(List.of(), rule.occurrencesIn(dtStart, YearMonth.of(2024, 11)));
+    }
+
+    @Test
+    void untilAndExceptionsBoundOccurrences() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=2025-03-05T09:00;EXDATE=2025-03-02");
+        LocalDateTime dtStart = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+        assertEquals(days(2025, 3, 9, 0, 1, 3, 4, 5), rule.occurrencesIn(dtStart, YearMonth.of(2025, 3)));
+        assertEquals(LocalDateTime.of(2025, 3, 3, 9, 0), rule.nextOccurrence(dtStart, LocalDateTime.of(2025, 3, 1, 9, 1)));
+        assertNull(rule.nextOccurrence(dtStart, LocalDateTime.of(2025, 3, 5, 9, 1)));
+    }
+
+    @Test
+    void nextOccurrenceBeforeStartReturnsStart() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY");
+        LocalDateTime dtStart = LocalDateTime.of(2025, 9, 3, 10, 0);
+
+        assertEquals(dtStart, rule.nextOccurrence(dtStart, LocalDateTime.of(2025, 1, 1, 0, 0)));
+        assertEquals(dtStart, rule.nextOccurrence(dtStart, dtStart));
+    }
+
+    @Test
+    void toStringRoundTrips() {
+        String value = "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;UNTIL=2026-12-31T23:59;EXDATE=2025-09-01,2025-09-15";
+        RecurrenceRule rule = RecurrenceRule.parse(value);
+
+        assertEquals(value, rule.toString());
+        assertEquals(rule, RecurrenceRule.parse(rule.toString()));
+        assertNull(RecurrenceRule.parse(" "));
+    }
+
+    @Test
+    void rejectsInvalidRules() {
+        for (String value : List.of("INTERVAL=2", "FREQ=YEARLY", "FREQ=DAILY;INTERVAL=0", "FREQ=DAILY;BYDAY=MO",
+                "FREQ=WEEKLY;BYDAY=XX", "FREQ=DAILY;UNTIL=tomorrow", "FREQ=DAILY;COUNT=3", "FREQ")) {
+            CustomException e = assertThrows(CustomException.class, () -> RecurrenceRule.parse(value), value);
+            assertEquals(ErrorCode.INVALID_RECURRENCE_RULE, e.getErrorCode());
+            assertFalse(RecurrenceRule.isValid(value), value);
+        }
+        assertTrue(RecurrenceRule.isValid(null));
+        assertTrue(RecurrenceRule.isValid("FREQ=MONTHLY;INTERVAL=3"));
+    }
+
+    private static List<LocalDateTime> days(int year, int month, int hour, int minute, int... days) {
+        return Arrays.stream(days).mapToObj(day -> LocalDateTime.of(year, month, day, hour, minute)).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.scheduler.service;
+
+import org.example.scheduler.dto.freebusy.FreeBusyResponseDto;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.error.CustomException;
+import org.example.scheduler.error.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * free/busy 계산과 기간 조회 결과가 잘린 경우의 처리 (DB 불필요)
+ */
+class FreeBusyServiceTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 9, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 12, 1, 0, 0);
+
+    private final ScheduleService scheduleService = mock(ScheduleService.class);
+    private final FreeBusyService freeBusyService = new FreeBusyService(scheduleService);
+
+    @Test
+    void busyIntervalsAreClippedToRange() {
+        when(scheduleService.getSchedulesInRange(eq(1L), eq(FROM), eq(TO), anyInt())).thenReturn(List.of(
+                schedule(1L, FROM.minusHours(1), FROM.plusHours(1)),
+                schedule(2L, FROM.plusHours(1), FROM.plusHours(2)),
+                schedule(3L, TO.minusHours(1), TO.plusHours(1))));
+
+        FreeBusyResponseDto response = freeBusyService.getFreeBusy(List.of(1L), FROM, TO);
+
+        assertEquals(2, response.getBusy().size());
+        assertEquals(FROM, response.getBusy().get(0).getStartAt());
+        assertEquals(FROM.plusHours(2), response.getBusy().get(0).getEndAt());
+        assertEquals(TO, response.getBusy().get(1).getEndAt());
+    }
+
+    @Test
+    void truncatedRangeIsRejectedInsteadOfReportedFree() {
+        // 기간 앞쪽에 일정이 몰려 있어 한도를 넘으면 뒤쪽을 빈 시간으로 응답하지 않고 실패
+        when(scheduleService.getSchedulesInRange(eq(1L), eq(FROM), eq(TO), anyInt())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(3);
+            return IntStream.range(0, limit)
+                    .mapToObj(i -> schedule((long) i, FROM.plusMinutes(i), FROM.plusMinutes(i + 30)))
+                    .toList();
+        });
+
+        CustomException e = assertThrows(CustomException.class, () -> freeBusyService.getFreeBusy(List.of(1L), FROM, TO));
+        assertEquals(ErrorCode.FREE_BUSY_TOO_MANY_SCHEDULES, e.getErrorCode());
+    }
+
+    private static SchedulePageResponseDto schedule(Long id, LocalDateTime startAt, LocalDateTime endAt) {
+        return new SchedulePageResponseDto(id, "title", "content", startAt, endAt, null, 0, startAt, startAt, "user");
+    }
+}
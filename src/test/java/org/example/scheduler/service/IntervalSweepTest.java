@@ -0,0 +1,139 @@
+package org.example.scheduler.service;
+
+import org.example.scheduler.dto.freebusy.BusyIntervalDto;
+import org.example.scheduler.dto.freebusy.ConflictDto;
+import org.example.scheduler.entity.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 바쁜 구간 합치기, 겹침 계산, 충돌 확인 (DB 불필요)
+ */
+class IntervalSweepTest {
+
+    @Test
+    void mergeJoinsOverlappingAndTouchingIntervals() {
+        List<BusyIntervalDto> merged = IntervalSweep.merge(List.of(
+                interval(13, 14, 3L),
+                interval(10, 11, 2L),    // [9, 10)과 맞닿음
+                interval(9, 10, 1L),
+                interval(13, 13, 4L)     // 길이 0, 다른 구간 안에 포함
+        ));
+
+        assertEquals(List.of("09-11", "13-14"), busy(merged));
+        assertEquals(List.of(), IntervalSweep.merge(List.of()));
+    }
+
+    @Test
+    void mergeKeepsLongestEndOfNestedIntervals() {
+        List<BusyIntervalDto> merged = IntervalSweep.merge(List.of(interval(9, 17, 1L), interval(10, 11, 2L), interval(16, 18, 3L)));
+
+        assertEquals(List.of("09-18"), busy(merged));
+    }
+
+    @Test
+    void touchingIntervalsDoNotConflict() {
+        assertEquals(List.of(), IntervalSweep.conflicts(List.of(interval(9, 10, 1L), interval(10, 11, 2L))));
+    }
+
+    @Test
+    void conflictsSplitWhereOverlappingSchedulesChange() {
+        List<ConflictDto> conflicts = IntervalSweep.conflicts(List.of(
+                interval(9, 12, 1L),
+                interval(10, 11, 2L),
+                new IntervalSweep.Interval(at(10).plusMinutes(30), at(11).plusMinutes(30), 3L)
+        ));
+
+        assertEquals(3, conflicts.size());
+        assertConflict(conflicts.get(0), at(10), at(10).plusMinutes(30), List.of(1L, 2L));
+        assertConflict(conflicts.get(1), at(10).plusMinutes(30), at(11), List.of(1L, 2L, 3L));
+        assertConflict(conflicts.get(2), at(11), at(11).plusMinutes(30), List.of(1L, 3L));
+    }
+
+    @Test
+    void backToBackOccurrencesOfSameScheduleFormOneConflict() {
+        // 반복 일정 2의 발생 [10, 11), [11, 12)가 일정 1과 이어서 겹침
+        List<ConflictDto> conflicts = IntervalSweep.conflicts(List.of(interval(9, 13, 1L), interval(10, 11, 2L), interval(11, 12, 2L)));
+
+        assertEquals(1, conflicts.size());
+        assertConflict(conflicts.get(0), at(10), at(12), List.of(1L, 2L));
+    }
+
+    @Test
+    void recurringScheduleOverlappingItselfIsReported() {
+        // 매일 반복하지만 길이가 36시간이라 발생끼리 겹침
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=2025-09-02T09:00");
+        LocalDateTime dtStart = LocalDateTime.of(2025, 9, 1, 9, 0);
+        List<IntervalSweep.Interval> occurrences = occurrences(rule, dtStart, Duration.ofHours(36), 7L);
+
+        List<ConflictDto> conflicts = IntervalSweep.conflicts(occurrences);
+
+        assertEquals(1, conflicts.size());
+        assertConflict(conflicts.get(0), LocalDateTime.of(2025, 9, 2, 9, 0), LocalDateTime.of(2025, 9, 2, 21, 0), List.of(7L));
+        assertEquals(List.of("2025-09-01T09:00/2025-09-03T21:00"), IntervalSweep.merge(occurrences).stream()
+                .map(b -> b.getStartAt() + "/" + b.getEndAt()).toList());
+    }
+
+    @Test
+    void overlapsAnyTreatsTouchingAsFree() {
+        List<BusyIntervalDto> busy = IntervalSweep.merge(List.of(interval(9, 10, 1L), interval(12, 13, 2L)));
+
+        assertFalse(IntervalSweep.overlapsAny(List.of(interval(10, 12, null)), busy));
+        assertFalse(IntervalSweep.overlapsAny(List.of(interval(8, 9, null), interval(13, 14, null)), busy));
+        assertTrue(IntervalSweep.overlapsAny(List.of(interval(10, 11, null), interval(12, 14, null)), busy));
+        assertTrue(IntervalSweep.overlapsAny(List.of(interval(8, 15, null)), busy));
+        assertFalse(IntervalSweep.overlapsAny(List.of(interval(9, 10, null)), List.of()));
+    }
+
+    @Test
+    void recurringCandidatesAgainstExistingSchedules() {
+        // 생성 시 충돌 확인과 같은 계산: 매주 월요일 9~10시 발생 vs 기존 일정을 합친 바쁜 구간
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2");
+        LocalDateTime dtStart = LocalDateTime.of(2025, 9, 1, 9, 0);
+        List<IntervalSweep.Interval> candidates = occurrences(rule, dtStart, Duration.ofHours(1), null);
+
+        // 발생하지 않는 주(9/8)와 발생 직후에 시작하는 일정(9/15 10시)은 겹치지 않음
+        List<IntervalSweep.Interval> free = List.of(
+                new IntervalSweep.Interval(LocalDateTime.of(2025, 9, 8, 9, 0), LocalDateTime.of(2025, 9, 8, 10, 0), 1L),
+                new IntervalSweep.Interval(LocalDateTime.of(2025, 9, 15, 10, 0), LocalDateTime.of(2025, 9, 15, 11, 0), 2L));
+        assertFalse(IntervalSweep.overlapsAny(candidates, IntervalSweep.merge(free)));
+
+        List<IntervalSweep.Interval> busy = List.of(free.get(0), free.get(1),
+                new IntervalSweep.Interval(LocalDateTime.of(2025, 9, 29, 9, 59), LocalDateTime.of(2025, 9, 29, 12, 0), 3L));
+        assertTrue(IntervalSweep.overlapsAny(candidates, IntervalSweep.merge(busy)));
+    }
+
+    private static List<IntervalSweep.Interval> occurrences(RecurrenceRule rule, LocalDateTime dtStart, Duration duration, Long scheduleId) {
+        return rule.occurrencesIn(dtStart, YearMonth.from(dtStart)).stream()
+                .map(start -> new IntervalSweep.Interval(start, start.plus(duration), scheduleId))
+                .toList();
+    }
+
+    private static IntervalSweep.Interval interval(int startHour, int endHour, Long scheduleId) {
+        return new IntervalSweep.Interval(at(startHour), at(endHour), scheduleId);
+    }
+
+    private static LocalDateTime at(int hour) {
+        return LocalDateTime.of(2025, 9, 1, hour, 0);
+    }
+
+    private static List<String> busy(List<BusyIntervalDto> intervals) {
+        return intervals.stream()
+                .map(b -> String.format("%02d-%02d", b.getStartAt().getHour(), b.getEndAt().getHour()))
+                .toList();
+    }
+
+    private static void assertConflict(ConflictDto conflict, LocalDateTime startAt, LocalDateTime endAt, List<Long> scheduleIds) {
+        assertEquals(startAt, conflict.getStartAt());
+        assertEquals(endAt, conflict.getEndAt());
+        assertEquals(scheduleIds, conflict.getScheduleIds());
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.scheduler.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.scheduler.dto.stats.CommentStreamStatsResponseDto;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전송이 막힌 구독자 제거 (DB 불필요)
+ * - 전송 스레드 1개에서 첫 구독자의 전송이 멈춘 상태로 두 번째 구독자가 이벤트를 받는지 확인
+ */
+class CommentStreamHubTest {
+    private static final long WRITE_TIMEOUT_MILLIS = 50;
+
+    private final CountDownLatch stallStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseStall = new CountDownLatch(1);
+    private final BlockingQueue<Set<DataWithMediaType>> received = new LinkedBlockingQueue<>();
+    private final AtomicInteger emitterCount = new AtomicInteger();
+
+    @Test
+    void stalledSubscriberIsEvictedWithoutBlockingOthers() throws Exception {
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.existsById(1L)).thenReturn(true);
+        CommentStreamHub hub = new CommentStreamHub(scheduleRepository, mock(CommentRepository.class), new ObjectMapper(),
+                64, 100, 60_000, WRITE_TIMEOUT_MILLIS, 1, 4) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return emitterCount.getAndIncrement() == 0 ? new StalledEmitter(timeoutMillis) : new RecordingEmitter(timeoutMillis);
+            }
+        };
+        try {
+            hub.subscribe(1L, null);    // 연결 이벤트 전송에서 멈춤 (유일한 전송 스레드 점유)
+            assertTrue(stallStarted.await(5, TimeUnit.SECONDS));
+            hub.subscribe(1L, null);    // 연결 이벤트가 전송 스레드를 기다림
+
+            Thread.sleep(WRITE_TIMEOUT_MILLIS * 2);
+            hub.evictStalled();
+
+            assertNotNull(received.poll(5, TimeUnit.SECONDS), "막힌 전송과 별개로 다른 구독자에게 전송되어야 함");
+            CommentStreamStatsResponseDto stats = hub.stats();
+            assertEquals(1, stats.getSubscriberCount());
+            assertEquals(1, stats.getEvictedCount());
+
+            hub.heartbeat();            // 제거된 구독자에게는 더 이상 쌓이지 않음
+            assertNotNull(received.poll(5, TimeUnit.SECONDS));
+            assertEquals(1, hub.stats().getSubscriberCount());
+        } finally {
+            releaseStall.countDown();
+            hub.shutdown();
+        }
+    }
+
+    private final class StalledEmitter extends SseEmitter {
+        private StalledEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            stallStarted.countDown();
+            try {
+                releaseStall.await();   // TCP 윈도가 가득 찬 클라이언트로의 블로킹 쓰기
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("broken pipe");
+        }
+    }
+
+    private final class RecordingEmitter extends SseEmitter {
+        private RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            received.add(items);
+        }
+    }
+}